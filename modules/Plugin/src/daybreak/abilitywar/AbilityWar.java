@@ -3,6 +3,7 @@ package daybreak.abilitywar;
 import daybreak.abilitywar.ability.AbilityFactory;
 import daybreak.abilitywar.addon.AddonLoader;
 import daybreak.abilitywar.addon.installer.info.Addons;
+import daybreak.abilitywar.config.ConfigWatcher;
 import daybreak.abilitywar.config.Configuration;
 import daybreak.abilitywar.config.ability.AbilitySettings;
 import daybreak.abilitywar.config.game.GameSettings;
@@ -169,6 +170,7 @@ public class AbilityWar extends JavaPlugin implements Provider, Listener {
 		for (GameSettings gameSetting : GameSettings.getGameSettings()) {
 			gameSetting.update();
 		}
+		ConfigWatcher.shutdown();
 		AddonLoader.disableAll();
 		Messager.sendConsoleMessage("플러그인이 비활성화되었습니다.");
 	}
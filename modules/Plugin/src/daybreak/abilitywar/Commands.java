@@ -1300,17 +1300,34 @@ public class Commands implements CommandExecutor, TabCompleter {
 			protected boolean onCommand(CommandSender sender, String command, String[] args) {
 				if (args.length == 0) {
 					sender.sendMessage(Messager.defaultPrefix + "월드 초기화 시작");
-					WorldReset.resetWorlds();
-					sender.sendMessage(Messager.defaultPrefix + "월드 초기화 완료");
+					WorldReset.resetWorlds(success -> {
+						if (success) {
+							sender.sendMessage(Messager.defaultPrefix + "월드 초기화 완료");
+						} else {
+							Messager.sendErrorMessage(sender, "일부 월드를 초기화하지 못했습니다. 콘솔을 확인하세요.");
+						}
+					});
 				} else {
+					if (WorldReset.isResetting(args[0])) {
+						Messager.sendErrorMessage(sender, args[0] + " 월드는 이미 초기화 중입니다.");
+						return true;
+					}
 					final World world = Bukkit.getWorld(args[0]);
 					if (world == null) {
 						sender.sendMessage(Messager.defaultPrefix + args[0] + KoreanUtil.getJosa(args[0], Josa.은는) +  " 없는 월드입니다.");
 						return true;
 					}
-					sender.sendMessage(Messager.defaultPrefix + world.getName() + " 월드 초기화 시작");
-					WorldReset.resetWorld(world);
-					sender.sendMessage(Messager.defaultPrefix + world.getName() + " 월드 초기화 완료");
+					final String name = world.getName();
+					sender.sendMessage(Messager.defaultPrefix + name + " 월드 초기화 시작");
+					if (!WorldReset.resetWorld(world, success -> {
+						if (success) {
+							sender.sendMessage(Messager.defaultPrefix + name + " 월드 초기화 완료");
+						} else {
+							Messager.sendErrorMessage(sender, name + " 월드를 초기화하지 못했습니다. 콘솔을 확인하세요.");
+						}
+					})) {
+						Messager.sendErrorMessage(sender, name + " 월드를 초기화할 수 없습니다.");
+					}
 				}
 				return true;
 			}
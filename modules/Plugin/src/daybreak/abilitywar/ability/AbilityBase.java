@@ -49,8 +49,8 @@ import org.bukkit.event.entity.EntityEvent;
 import org.bukkit.event.player.PlayerEvent;
 import org.jetbrains.annotations.NotNull;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
@@ -81,17 +81,11 @@ public abstract class AbilityBase {
 			private final Function<String, String> valueProvider = new Function<String, String>() {
 				@Override
 				public String apply(String string) {
-					Class<?> finding = registration.getAbilityClass();
-					while (finding != null && finding != AbilityBase.class) {
+					final Field field = registration.getExplain().getField(string);
+					if (field != null) {
 						try {
-							final Field field = finding.getDeclaredField(string);
-							if (Modifier.isStatic(field.getModifiers())) {
-								try {
-									return String.valueOf(ReflectionUtil.setAccessible(field).get(null));
-								} catch (IllegalAccessException ignored) {}
-							}
-						} catch (NoSuchFieldException ignored) {}
-						finding = finding.getSuperclass();
+							return String.valueOf(field.get(null));
+						} catch (IllegalAccessException ignored) {}
 					}
 					return "?";
 				}
@@ -206,7 +200,8 @@ public abstract class AbilityBase {
 			final Pair<Method, SubscribeEvent> pair = entry.getValue();
 			final SubscribeEvent subscriber = pair.getRight();
 			final Method method = pair.getLeft();
-			final EventObserver observer = new EventObserver(entry.getKey(), subscriber.eventPriority(), subscriber.priority(), Arrays.asList(subscriber.childs())) {
+			final MethodHandle invoker = registration.getInvoker(method);
+			final EventObserver observer = new EventObserver(entry.getKey(), subscriber.eventPriority(), subscriber.priority(), Arrays.asList(subscriber.childs()), subscriber.onlyRelevant() ? participant.getPlayer().getUniqueId() : null) {
 				@Override
 				protected void onEvent(final Event event) {
 					if (isRestricted()) return;
@@ -219,14 +214,10 @@ public abstract class AbilityBase {
 					}
 					if (subscriber.ignoreCancelled() && event instanceof Cancellable && ((Cancellable) event).isCancelled()) return;
 					try {
-						ReflectionUtil.setAccessible(method).invoke(AbilityBase.this, event);
-					} catch (IllegalAccessException | IllegalArgumentException ex) {
+						invoker.invokeExact(AbilityBase.this, event);
+					} catch (Throwable ex) {
 						logger.error(method.getDeclaringClass().getName() + ":" + method.getName() + "를 호출하는 도중 오류가 발생하였습니다.");
 						ex.printStackTrace();
-					} catch (InvocationTargetException ex) {
-						logger.error(method.getDeclaringClass().getName() + ":" + method.getName() + "를 호출하는 도중 오류가 발생하였습니다.");
-						final Throwable cause = ex.getCause();
-						(cause != null ? cause : ex).printStackTrace();
 					}
 				}
 			};
@@ -246,7 +237,7 @@ public abstract class AbilityBase {
 	protected <T extends Event> void subscribeEvent(final Class<T> clazz, final EventConsumer<T> consumer, final boolean onlyRelevant, final boolean ignoreCancelled, final EventPriority eventPriority, final int priority) {
 		Preconditions.checkNotNull(clazz);
 		Preconditions.checkNotNull(consumer);
-		final EventObserver observer = new EventObserver(clazz, eventPriority, priority) {
+		final EventObserver observer = new EventObserver(clazz, eventPriority, priority, onlyRelevant ? getPlayer().getUniqueId() : null) {
 			@Override
 			protected void onEvent(final Event event) {
 				if (isRestricted()) return;
@@ -118,6 +118,9 @@ import org.bukkit.event.Event;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -128,9 +131,15 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * {@link AbilityBase}를 기반으로 하는 모든 능력을 관리하는 클래스입니다.
+ * <p>
+ * 능력을 등록할 때는 클래스의 어노테이션과 생성자만 읽으며, 클래스를 초기화하지 않습니다.
+ * 능력 클래스의 static 필드와 내부 클래스는 게임에서 능력이 처음 배정되거나, 설정 또는 설명을 처음 읽을 때 초기화됩니다.
  */
 public class AbilityFactory {
 
@@ -139,6 +148,7 @@ public class AbilityFactory {
 	private static final Map<Class<? extends AbilityBase>, AbilityRegistration> registeredAbilities = new HashMap<>();
 
 	static {
+		final long start = System.nanoTime();
 		registerAbility(Assassin.class);
 		registerAbility(Feather.class);
 		registerAbility(Demigod.class);
@@ -270,6 +280,7 @@ public class AbilityFactory {
 
 		// 폭탄 돌리기 게임모드
 		registerAbility(TNT.class);
+		logger.debug("능력 " + registeredAbilities.size() + "개를 등록했습니다. §7(" + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms)");
 	}
 
 	private AbilityFactory() {
@@ -321,7 +332,7 @@ public class AbilityFactory {
 	 */
 	public static void registerAbility(String className) {
 		try {
-			registerAbility(ReflectionUtil.ClassUtil.forName(className).asSubclass(AbilityBase.class));
+			registerAbility(ReflectionUtil.ClassUtil.forName(className, false).asSubclass(AbilityBase.class));
 		} catch (ClassNotFoundException e) {
 			logger.debug("§e" + className + " §f클래스는 존재하지 않습니다.");
 		} catch (ClassCastException e) {
@@ -365,17 +376,29 @@ public class AbilityFactory {
 		return usedNames.get(name);
 	}
 
+	/**
+	 * 등록된 모든 능력 클래스를 초기화하여 각 능력의 설정을 {@link daybreak.abilitywar.config.ability.AbilitySettings}에 등록합니다.
+	 * 능력 설정 마법사처럼 모든 능력의 설정이 필요할 때 사용하세요.
+	 */
+	public static void loadSettings() {
+		for (final AbilityRegistration registration : registeredAbilities.values()) {
+			registration.getSettingObjects();
+		}
+	}
+
 	public static class AbilityRegistration {
 
 		private static final ImmutableSet<Material> DEFAULT_MATERIALS = ImmutableSet.of(Material.IRON_INGOT);
+		private static final MethodType INVOKER_TYPE = MethodType.methodType(void.class, AbilityBase.class, Event.class);
 
 		private final Class<? extends AbilityBase> clazz;
 		private final Provider provider;
 		private final Constructor<? extends AbilityBase> constructor;
 		private final AbilityManifest manifest;
 		private final Tip tip;
-		private final Multimap<Class<? extends Event>, Pair<Method, SubscribeEvent>> eventhandlers;
-		private final Map<String, SettingObject<?>> settingObjects;
+		private Multimap<Class<? extends Event>, Pair<Method, SubscribeEvent>> eventhandlers = null;
+		private Map<Method, MethodHandle> invokers = null;
+		private volatile Map<String, SettingObject<?>> settingObjects = null;
 		private final ImmutableSet<Material> materials;
 		private final ImmutableSet<Class<? extends AbstractGame>> notAvailable;
 		private final Explanation explain;
@@ -435,41 +458,6 @@ public class AbilityFactory {
 				this.provider = provider;
 			}
 
-			{
-				final Multimap<Class<? extends Event>, Pair<Method, SubscribeEvent>> eventhandlers = HashMultimap.create();
-				Class<?> current = clazz;
-				while (current != null && AbilityBase.class.isAssignableFrom(current) && current != AbilityBase.class) {
-					for (Method method : current.getDeclaredMethods()) {
-						final SubscribeEvent subscribeEvent = method.getAnnotation(SubscribeEvent.class);
-						if (subscribeEvent != null) {
-							final Class<?>[] parameters = method.getParameterTypes();
-							if (parameters.length == 1 && Event.class.isAssignableFrom(parameters[0])) {
-								eventhandlers.put(parameters[0].asSubclass(Event.class), Pair.of(method, subscribeEvent));
-							}
-						}
-					}
-					current = current.getSuperclass();
-				}
-				this.eventhandlers = Multimaps.unmodifiableMultimap(eventhandlers);
-			}
-
-			{
-				final Map<String, SettingObject<?>> settingObjects = new HashMap<>();
-				Class<?> current = clazz;
-				while (current != null && AbilityBase.class.isAssignableFrom(current) && current != AbilityBase.class) {
-					for (Field field : current.getDeclaredFields()) {
-						if (Modifier.isStatic(field.getModifiers())) {
-							if (SettingObject.class.isAssignableFrom(field.getType())) {
-								SettingObject<?> settingObject = (SettingObject<?>) ReflectionUtil.setAccessible(field).get(null);
-								settingObjects.put(settingObject.getKey(), settingObject);
-							}
-						}
-					}
-					current = current.getSuperclass();
-				}
-				this.settingObjects = Collections.unmodifiableMap(settingObjects);
-			}
-
 			final Materials materials = clazz.getAnnotation(Materials.class);
 			this.materials = materials != null ? ImmutableSet.<Material>builder().add(materials.materials()).build() : DEFAULT_MATERIALS;
 
@@ -506,11 +494,82 @@ public class AbilityFactory {
 			return tip;
 		}
 
+		/**
+		 * {@link SubscribeEvent}가 붙은 메소드를 이벤트 클래스별로 반환합니다.
+		 * 능력이 실제로 생성되기 전까지는 메소드를 탐색하지 않으며, 처음 호출될 때 한 번만 탐색합니다.
+		 */
 		public Multimap<Class<? extends Event>, Pair<Method, SubscribeEvent>> getEventhandlers() {
+			if (eventhandlers == null) resolveEventhandlers();
 			return eventhandlers;
 		}
 
+		private void resolveEventhandlers() {
+			final Multimap<Class<? extends Event>, Pair<Method, SubscribeEvent>> eventhandlers = HashMultimap.create();
+			final Map<Method, MethodHandle> invokers = new HashMap<>();
+			final MethodHandles.Lookup lookup = MethodHandles.lookup();
+			Class<?> current = clazz;
+			while (current != null && AbilityBase.class.isAssignableFrom(current) && current != AbilityBase.class) {
+				for (Method method : current.getDeclaredMethods()) {
+					final SubscribeEvent subscribeEvent = method.getAnnotation(SubscribeEvent.class);
+					if (subscribeEvent != null) {
+						final Class<?>[] parameters = method.getParameterTypes();
+						if (parameters.length == 1 && Event.class.isAssignableFrom(parameters[0])) {
+							try {
+								invokers.put(method, lookup.unreflect(ReflectionUtil.setAccessible(method)).asType(INVOKER_TYPE));
+							} catch (IllegalAccessException e) {
+								logger.error("§e" + clazz.getName() + " §f능력의 " + method.getName() + " 메소드에 접근할 수 없습니다.");
+								continue;
+							}
+							eventhandlers.put(parameters[0].asSubclass(Event.class), Pair.of(method, subscribeEvent));
+						}
+					}
+				}
+				current = current.getSuperclass();
+			}
+			this.eventhandlers = Multimaps.unmodifiableMultimap(eventhandlers);
+			this.invokers = Collections.unmodifiableMap(invokers);
+		}
+
+		/**
+		 * {@link SubscribeEvent}가 붙은 메소드를 호출하는 {@link MethodHandle}을 반환합니다.
+		 * 반환되는 {@link MethodHandle}은 (AbilityBase, Event)void 타입이며, 같은 능력의 모든 인스턴스가 공유합니다.
+		 *
+		 * @param method {@link #getEventhandlers()}에 포함된 메소드
+		 * @return 메소드를 호출하는 {@link MethodHandle}, 등록되지 않은 메소드일 경우 null
+		 */
+		@Nullable
+		public MethodHandle getInvoker(final Method method) {
+			if (invokers == null) resolveEventhandlers();
+			return invokers.get(method);
+		}
+
+		/**
+		 * 능력 클래스의 static {@link SettingObject} 필드를 설정 키별로 반환합니다.
+		 * 처음 호출될 때 능력 클래스를 초기화하며, 필드는 한 번만 탐색합니다.
+		 * <p>
+		 * 능력 클래스를 초기화하면 {@link daybreak.abilitywar.config.ability.AbilitySettings}에 설정이 등록되므로 메인 스레드에서 호출해야 합니다.
+		 * 능력의 설명(static 필드 참조)을 비동기로 만들기 전에도 먼저 호출하세요.
+		 */
 		public Map<String, SettingObject<?>> getSettingObjects() {
+			if (settingObjects == null) {
+				final Map<String, SettingObject<?>> settingObjects = new HashMap<>();
+				Class<?> current = clazz;
+				while (current != null && AbilityBase.class.isAssignableFrom(current) && current != AbilityBase.class) {
+					for (Field field : current.getDeclaredFields()) {
+						if (Modifier.isStatic(field.getModifiers()) && SettingObject.class.isAssignableFrom(field.getType())) {
+							try {
+								final SettingObject<?> settingObject = (SettingObject<?>) ReflectionUtil.setAccessible(field).get(null);
+								if (settingObject != null) settingObjects.put(settingObject.getKey(), settingObject);
+							} catch (IllegalAccessException | ExceptionInInitializerError e) {
+								logger.error("§e" + clazz.getName() + " §f능력의 설정을 불러오는 도중 오류가 발생하였습니다.");
+								e.printStackTrace();
+							}
+						}
+					}
+					current = current.getSuperclass();
+				}
+				this.settingObjects = Collections.unmodifiableMap(settingObjects);
+			}
 			return settingObjects;
 		}
 
@@ -544,6 +603,7 @@ public class AbilityFactory {
 		public class Explanation {
 
 			private final boolean[] needsReplace;
+			private final Map<String, Optional<Field>> fields = new ConcurrentHashMap<>();
 
 			private Explanation() {
 				this.needsReplace = new boolean[manifest.explain().length];
@@ -557,6 +617,27 @@ public class AbilityFactory {
 				return needsReplace[index];
 			}
 
+			/**
+			 * 설명의 $[...] 에서 참조하는 static 필드를 능력 클래스와 상위 클래스에서 찾아 반환합니다.
+			 * 한 번 찾은 결과는 저장해두므로 같은 이름으로 여러 번 호출해도 리플렉션 탐색은 한 번만 수행합니다.
+			 */
+			@Nullable
+			public Field getField(final String name) {
+				return fields.computeIfAbsent(name, key -> {
+					Class<?> finding = clazz;
+					while (finding != null && finding != AbilityBase.class) {
+						try {
+							final Field field = finding.getDeclaredField(key);
+							if (Modifier.isStatic(field.getModifiers())) {
+								return Optional.of(ReflectionUtil.setAccessible(field));
+							}
+						} catch (NoSuchFieldException ignored) {}
+						finding = finding.getSuperclass();
+					}
+					return Optional.empty();
+				}).orElse(null);
+			}
+
 		}
 
 		public static class Tip {
@@ -22,8 +22,6 @@ import daybreak.abilitywar.utils.base.math.FastMath;
 import daybreak.abilitywar.utils.base.math.LocationUtil;
 import daybreak.abilitywar.utils.base.math.LocationUtil.Locations;
 import daybreak.abilitywar.utils.base.math.geometry.Line;
-import daybreak.abilitywar.utils.base.minecraft.block.Blocks;
-import daybreak.abilitywar.utils.base.minecraft.block.IBlockSnapshot;
 import daybreak.abilitywar.utils.base.minecraft.nms.NMS;
 import daybreak.abilitywar.utils.base.random.Random;
 import daybreak.abilitywar.utils.library.BlockX;
@@ -41,9 +39,7 @@ import org.bukkit.event.player.PlayerVelocityEvent;
 import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -143,7 +139,6 @@ public class Celebrity extends AbilityBase implements ActiveHandler {
     };
 
     private final double distance = DISTANCE_CONFIG.getValue();
-    private final Map<Block, IBlockSnapshot> carpets = new HashMap<>();
     private final Cooldown cooldownTimer = new Cooldown(COOLDOWN_CONFIG.getValue());
     private final Duration skillTimer = new Duration(DURATION_CONFIG.getValue() * 20, cooldownTimer) {
         @Override
@@ -177,8 +172,8 @@ public class Celebrity extends AbilityBase implements ActiveHandler {
                                     LocationUtil.getFloorYAt(world, playerLocation.getY(), location.getBlockX(), location.getBlockZ()),
                                     location.getBlockZ()
                             );
-                            if (!carpets.containsKey(block)) {
-                                carpets.put(block, Blocks.createSnapshot(block));
+                            if (!getGame().getBlockJournal().isRecorded(Celebrity.this, block)) {
+                                getGame().getBlockJournal().record(Celebrity.this, block);
                                 BlockX.setType(block, material);
                             }
                         }
@@ -190,7 +185,7 @@ public class Celebrity extends AbilityBase implements ActiveHandler {
         @Override
         protected void onDurationProcess(int seconds) {
             final Block block = getPlayer().getLocation().getBlock();
-            if (carpets.containsKey(block) || carpets.containsKey(block.getRelative(BlockFace.DOWN))) {
+            if (getGame().getBlockJournal().isRecorded(Celebrity.this, block) || getGame().getBlockJournal().isRecorded(Celebrity.this, block.getRelative(BlockFace.DOWN))) {
                 for (LivingEntity entity : LocationUtil.getNearbyEntities(LivingEntity.class, getPlayer().getLocation(), distance, distance, predicate)) {
                     for (Player player : Bukkit.getOnlinePlayers()) {
                         Vector direction = getPlayer().getEyeLocation().toVector().subtract(entity.getEyeLocation().toVector());
@@ -202,18 +197,12 @@ public class Celebrity extends AbilityBase implements ActiveHandler {
 
         @Override
         protected void onDurationEnd() {
-            for (IBlockSnapshot snapshot : carpets.values()) {
-                snapshot.apply();
-            }
-            carpets.clear();
+            getGame().getBlockJournal().release(Celebrity.this);
         }
 
         @Override
         protected void onDurationSilentEnd() {
-            for (IBlockSnapshot snapshot : carpets.values()) {
-                snapshot.apply();
-            }
-            carpets.clear();
+            getGame().getBlockJournal().release(Celebrity.this);
         }
     }.setPeriod(TimeUnit.TICKS, 1);
 
@@ -237,7 +226,7 @@ public class Celebrity extends AbilityBase implements ActiveHandler {
     @SubscribeEvent(onlyRelevant = true)
     private void onPlayerVelocity(final PlayerVelocityEvent e) {
         final Block block = getPlayer().getLocation().getBlock();
-        if (carpets.containsKey(block) || carpets.containsKey(block.getRelative(BlockFace.DOWN))) {
+        if (getGame().getBlockJournal().isRecorded(Celebrity.this, block) || getGame().getBlockJournal().isRecorded(Celebrity.this, block.getRelative(BlockFace.DOWN))) {
             e.setVelocity(e.getPlayer().getVelocity().multiply(.45));
         }
     }
@@ -17,8 +17,6 @@ import daybreak.abilitywar.game.module.DeathManager;
 import daybreak.abilitywar.utils.base.Formatter;
 import daybreak.abilitywar.utils.base.concurrent.TimeUnit;
 import daybreak.abilitywar.utils.base.math.LocationUtil;
-import daybreak.abilitywar.utils.base.minecraft.block.Blocks;
-import daybreak.abilitywar.utils.base.minecraft.block.IBlockSnapshot;
 import daybreak.abilitywar.utils.library.BlockX;
 import daybreak.abilitywar.utils.library.MaterialX;
 import daybreak.abilitywar.utils.library.ParticleLib;
@@ -38,10 +36,9 @@ import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.block.BlockExplodeEvent;
 import org.bukkit.event.entity.EntityExplodeEvent;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Map.Entry;
+import java.util.HashSet;
 import java.util.Random;
+import java.util.Set;
 import java.util.function.Predicate;
 
 @AbilityManifest(name = "글래디에이터", rank = Rank.S, species = Species.HUMAN, explain = {
@@ -119,7 +116,7 @@ public class Gladiator extends AbilityBase implements TargetHandler {
 						&& getGame().getParticipant(entity.getUniqueId()).attributes().TARGETABLE.getValue());
 			}
 		};
-		private final Map<Block, IBlockSnapshot> saves = new HashMap<>();
+		private final Set<Block> saves = new HashSet<>();
 		private final Location center;
 		private final Player target;
 		private int build = 1;
@@ -142,7 +139,7 @@ public class Gladiator extends AbilityBase implements TargetHandler {
 		protected void run(int count) {
 			if (count <= 10) {
 				for (Block block : LocationUtil.getBlocks2D(center, build, true, false, true)) {
-					saves.putIfAbsent(block, Blocks.createSnapshot(block));
+					if (saves.add(block)) getGame().getBlockJournal().record(this, block);
 					if (random.nextInt(RARE_BOUND) > 1) {
 						BlockX.setType(block, COMMON_BLOCK);
 					} else {
@@ -156,17 +153,17 @@ public class Gladiator extends AbilityBase implements TargetHandler {
 				build++;
 			} else if (count <= 15) {
 				for (Block block : LocationUtil.getBlocks2D(center.clone().add(0, count - 10, 0), build - 2, true, false, true)) {
-					saves.putIfAbsent(block, Blocks.createSnapshot(block));
+					if (saves.add(block)) getGame().getBlockJournal().record(this, block);
 					BlockX.setType(block, BAR_BLOCK);
 				}
 
 				for (Block block : LocationUtil.getBlocks2D(center.clone().add(0, count - 10, 0), build - 1, true, false, true)) {
-					saves.putIfAbsent(block, Blocks.createSnapshot(block));
+					if (saves.add(block)) getGame().getBlockJournal().record(this, block);
 					BlockX.setType(block, BAR_BLOCK);
 				}
 			} else if (count <= 26) {
 				for (Block block : LocationUtil.getBlocks2D(center.clone().add(0, 6, 0), build, true, false, true)) {
-					saves.putIfAbsent(block, Blocks.createSnapshot(block));
+					if (saves.add(block)) getGame().getBlockJournal().record(this, block);
 					if (random.nextInt(RARE_BOUND) > 1) {
 						BlockX.setType(block, COMMON_BLOCK);
 					} else {
@@ -196,7 +193,7 @@ public class Gladiator extends AbilityBase implements TargetHandler {
 
 		@EventHandler
 		private void onBlockBreak(BlockBreakEvent e) {
-			if (saves.containsKey(e.getBlock())) {
+			if (saves.contains(e.getBlock())) {
 				e.setCancelled(true);
 				e.getPlayer().sendMessage("§c투기장§f은 부술 수 없습니다!");
 			}
@@ -204,12 +201,12 @@ public class Gladiator extends AbilityBase implements TargetHandler {
 
 		@EventHandler
 		private void onExplode(BlockExplodeEvent e) {
-			e.blockList().removeIf(saves::containsKey);
+			e.blockList().removeIf(saves::contains);
 		}
 
 		@EventHandler
 		private void onExplode(EntityExplodeEvent e) {
-			e.blockList().removeIf(saves::containsKey);
+			e.blockList().removeIf(saves::contains);
 		}
 
 		@Override
@@ -223,13 +220,13 @@ public class Gladiator extends AbilityBase implements TargetHandler {
 			Gladiator.this.arena = null;
 			SoundLib.ENTITY_GENERIC_EXPLODE.playSound(center);
 			int i = 0;
-			for (Entry<Block, IBlockSnapshot> entry : saves.entrySet()) {
+			for (Block block : saves) {
 				if (++i % 4 == 0) {
-					ParticleLib.BLOCK_CRACK.spawnParticle(entry.getKey().getLocation(), .5, .5, .5, 5, entry.getKey());
+					ParticleLib.BLOCK_CRACK.spawnParticle(block.getLocation(), .5, .5, .5, 5, block);
 				}
-				entry.getValue().apply();
 			}
 			saves.clear();
+			getGame().getBlockJournal().release(this);
 			HandlerList.unregisterAll(this);
 		}
 	}
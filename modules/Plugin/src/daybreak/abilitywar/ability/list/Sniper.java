@@ -17,6 +17,9 @@ import daybreak.abilitywar.utils.base.ProgressBar;
 import daybreak.abilitywar.utils.base.color.RGB;
 import daybreak.abilitywar.utils.base.concurrent.TimeUnit;
 import daybreak.abilitywar.utils.base.math.LocationUtil;
+import daybreak.abilitywar.utils.base.minecraft.boundary.BoundingBox;
+import daybreak.abilitywar.utils.base.minecraft.boundary.CenteredBoundingBox;
+import daybreak.abilitywar.utils.base.minecraft.boundary.EntityBoxes;
 import daybreak.abilitywar.utils.base.minecraft.damage.Damages;
 import daybreak.abilitywar.utils.base.minecraft.entity.decorator.Deflectable;
 import daybreak.abilitywar.utils.base.minecraft.raytrace.RayTrace;
@@ -130,6 +133,7 @@ public class Sniper extends AbilityBase {
 		private final Vector forward;
 		private final int powerEnchant;
 		private final Predicate<Entity> predicate;
+		private final EntityBoxes<Damageable> targets = new EntityBoxes<>();
 
 		private final RGB color;
 
@@ -170,6 +174,7 @@ public class Sniper extends AbilityBase {
 		@Override
 		protected void run(int i) {
 			final Location newLocation = lastLocation.clone().add(forward);
+			targets.snapshot(LocationUtil.getConflictingEntities(Damageable.class, shooter.getWorld(), CenteredBoundingBox.of(lastLocation, newLocation).expand(.75), predicate));
 			for (Iterator<Location> iterator = new Iterator<Location>() {
 				private final Vector vectorBetween = newLocation.toVector().subtract(lastLocation.toVector()), unit = vectorBetween.clone().normalize().multiply(.35);
 				private final int amount = (int) (vectorBetween.length() / .35);
@@ -208,12 +213,12 @@ public class Sniper extends AbilityBase {
 						return;
 					}
 				}
-				for (Damageable damageable : LocationUtil.getConflictingEntities(Damageable.class, shooter.getWorld(), entity.getBoundingBox(), predicate)) {
-					if (!shooter.equals(damageable)) {
-						Damages.damageArrow(damageable, shooter, (float) EnchantLib.getDamageWithPowerEnchantment(Math.min((forward.getX() * forward.getX()) + (forward.getY() * forward.getY()) + (forward.getZ() * forward.getZ()) / 10.0, 10), powerEnchant));
-						stop(false);
-						return;
-					}
+				final BoundingBox boundingBox = entity.getBoundingBox();
+				final int hit = targets.firstConflict(boundingBox.getMinX(), boundingBox.getMinY(), boundingBox.getMinZ(), boundingBox.getMaxX(), boundingBox.getMaxY(), boundingBox.getMaxZ());
+				if (hit != -1) {
+					Damages.damageArrow(targets.get(hit), shooter, (float) EnchantLib.getDamageWithPowerEnchantment(Math.min((forward.getX() * forward.getX()) + (forward.getY() * forward.getY()) + (forward.getZ() * forward.getZ()) / 10.0, 10), powerEnchant));
+					stop(false);
+					return;
 				}
 				ParticleLib.REDSTONE.spawnParticle(location, color);
 			}
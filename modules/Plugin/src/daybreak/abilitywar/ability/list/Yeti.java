@@ -10,9 +10,7 @@ import daybreak.abilitywar.game.AbstractGame.Participant;
 import daybreak.abilitywar.utils.base.Formatter;
 import daybreak.abilitywar.utils.base.concurrent.TimeUnit;
 import daybreak.abilitywar.utils.base.math.LocationUtil;
-import daybreak.abilitywar.utils.base.minecraft.block.Blocks;
-import daybreak.abilitywar.utils.base.minecraft.block.IBlockSnapshot;
-import daybreak.abilitywar.utils.library.BlockX;
+import daybreak.abilitywar.utils.base.minecraft.BlockWriter;
 import daybreak.abilitywar.utils.library.MaterialX;
 import daybreak.abilitywar.utils.library.PotionEffects;
 import org.bukkit.Location;
@@ -21,10 +19,6 @@ import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Map.Entry;
-
 @AbilityManifest(name = "설인", rank = Rank.S, species = Species.HUMAN, explain = {
 		"눈과 얼음 위에서 §6힘§f, §b신속§f, §3저항 §f버프를 받습니다. 철괴를 우클릭하면 주변 지역을",
 		"눈 지형으로 바꿉니다. $[COOLDOWN_CONFIG]"
@@ -77,8 +71,7 @@ public class Yeti extends AbilityBase implements ActiveHandler {
 
 	}.setPeriod(TimeUnit.TICKS, 1).register();
 
-	private final Map<Block, IBlockSnapshot> blockData = new HashMap<>();
-
+	private final BlockWriter writer = new BlockWriter();
 	private final AbilityTimer iceMaker = new AbilityTimer(RANGE_CONFIG.getValue()) {
 
 		private int count;
@@ -92,7 +85,8 @@ public class Yeti extends AbilityBase implements ActiveHandler {
 
 		@Override
 		public void run(int sec) {
-			for (Block block : LocationUtil.getBlocks2D(center, count, true, true, true)) {
+			LocationUtil.forEachBlock2D(center, count, true, true, true, floor -> {
+				Block block = floor;
 				Block belowBlock = block.getRelative(BlockFace.DOWN);
 				if (belowBlock.getType() == Material.SNOW) {
 					block = belowBlock;
@@ -100,22 +94,22 @@ public class Yeti extends AbilityBase implements ActiveHandler {
 				}
 				Material type = belowBlock.getType();
 				if (type == Material.WATER) {
-					blockData.putIfAbsent(belowBlock, Blocks.createSnapshot(belowBlock));
-					belowBlock.setType(Material.PACKED_ICE);
+					getGame().getBlockJournal().record(Yeti.this, belowBlock);
+					writer.setType(belowBlock, Material.PACKED_ICE);
 				} else if (type == Material.LAVA) {
-					blockData.putIfAbsent(belowBlock, Blocks.createSnapshot(belowBlock));
-					belowBlock.setType(Material.OBSIDIAN);
+					getGame().getBlockJournal().record(Yeti.this, belowBlock);
+					writer.setType(belowBlock, Material.OBSIDIAN);
 				} else if (MaterialX.ACACIA_LEAVES.compare(belowBlock) || MaterialX.BIRCH_LEAVES.compare(belowBlock) || MaterialX.DARK_OAK_LEAVES.compare(belowBlock)
 						|| MaterialX.JUNGLE_LEAVES.compare(belowBlock) || MaterialX.OAK_LEAVES.compare(belowBlock) || MaterialX.SPRUCE_LEAVES.compare(belowBlock)) {
-					BlockX.setType(belowBlock, MaterialX.GREEN_WOOL);
+					writer.setType(belowBlock, MaterialX.GREEN_WOOL);
 				} else {
-					blockData.putIfAbsent(belowBlock, Blocks.createSnapshot(belowBlock));
-					belowBlock.setType(Material.SNOW_BLOCK);
+					getGame().getBlockJournal().record(Yeti.this, belowBlock);
+					writer.setType(belowBlock, Material.SNOW_BLOCK);
 				}
 
-				blockData.putIfAbsent(block, Blocks.createSnapshot(block));
-				block.setType(Material.SNOW);
-			}
+				getGame().getBlockJournal().record(Yeti.this, block);
+				writer.setType(block, Material.SNOW);
+			});
 			count++;
 		}
 
@@ -126,12 +120,11 @@ public class Yeti extends AbilityBase implements ActiveHandler {
 		if (update == Update.RESTRICTION_CLEAR) {
 			buff.start();
 		} else if (update == Update.ABILITY_DESTROY) {
-			for (Entry<Block, IBlockSnapshot> entry : blockData.entrySet()) {
-				Block key = entry.getKey();
-				if (key.getType() == Material.PACKED_ICE || key.getType() == Material.OBSIDIAN || key.getType() == Material.SNOW_BLOCK || key.getType() == Material.SNOW) {
-					entry.getValue().apply();
-				}
-			}
+			writer.clear();
+			getGame().getBlockJournal().release(this, block -> {
+				final Material type = block.getType();
+				return type == Material.PACKED_ICE || type == Material.OBSIDIAN || type == Material.SNOW_BLOCK || type == Material.SNOW;
+			});
 		}
 	}
 
@@ -1,6 +1,8 @@
 package daybreak.abilitywar.addon;
 
 import com.google.common.base.Enums;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
 import daybreak.abilitywar.AbilityWar;
 import daybreak.abilitywar.Provider;
 import daybreak.abilitywar.addon.exception.InvalidDescriptionException;
@@ -12,6 +14,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Properties;
 import java.util.jar.JarFile;
 import java.util.zip.ZipEntry;
@@ -75,6 +78,7 @@ public abstract class Addon implements Provider {
 
 		private final String name, displayName, main, version;
 		private final NMSVersion minVersion;
+		private final List<String> depend;
 
 		AddonDescription(File pluginFile) throws InvalidDescriptionException {
 			try (JarFile jarFile = new JarFile(pluginFile)) {
@@ -88,6 +92,7 @@ public abstract class Addon implements Provider {
 					this.main = description.getProperty("main", "");
 					this.version = description.getProperty("version", "");
 					this.minVersion = description.containsKey("minVersion") ? Enums.getIfPresent(NMSVersion.class, description.getProperty("minVersion")).orNull() : NMSVersion.v1_12_R1;
+					this.depend = ImmutableList.copyOf(Splitter.on(',').trimResults().omitEmptyStrings().split(description.getProperty("depend", "")));
 					if (name.isEmpty() || main.isEmpty() || version.isEmpty()) {
 						throw new InvalidDescriptionException(jarFile.getName() + ": 올바르지 않은 addon.yml입니다.");
 					}
@@ -123,6 +128,13 @@ public abstract class Addon implements Provider {
 			return minVersion;
 		}
 
+		/**
+		 * 이 애드온보다 먼저 불러와야 하는 애드온의 이름 목록을 반환합니다. addon.yml의 depend에 쉼표로 구분하여 작성합니다.
+		 */
+		public List<String> getDepend() {
+			return depend;
+		}
+
 	}
 
 }
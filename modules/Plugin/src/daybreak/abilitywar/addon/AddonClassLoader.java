@@ -1,9 +1,12 @@
 package daybreak.abilitywar.addon;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.io.ByteStreams;
 import daybreak.abilitywar.addon.Addon.AddonDescription;
 import daybreak.abilitywar.addon.exception.InitializationException;
 import daybreak.abilitywar.addon.exception.InvalidAddonException;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.io.IOException;
@@ -14,31 +17,64 @@ import java.net.URLClassLoader;
 import java.security.CodeSigner;
 import java.security.CodeSource;
 import java.util.Enumeration;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
 
 public class AddonClassLoader extends URLClassLoader {
 
-	private static final Map<String, Class<?>> cachedClasses = new HashMap<>();
-	private static final Set<AddonClassLoader> loaders = new HashSet<>();
-	final Map<String, Class<?>> classes = new HashMap<>();
+	static {
+		ClassLoader.registerAsParallelCapable();
+	}
+
+	private static final Map<String, Class<?>> cachedClasses = new ConcurrentHashMap<>();
+	private static final Set<AddonClassLoader> loaders = ConcurrentHashMap.newKeySet();
+	/**
+	 * 패키지 이름 -> 해당 패키지의 클래스를 가진 애드온 클래스 로더
+	 */
+	private static final Map<String, List<AddonClassLoader>> packageIndex = new ConcurrentHashMap<>();
+	/**
+	 * 어느 애드온에서도 찾지 못한 클래스 이름. 새 애드온이 등록되면 비워집니다.
+	 */
+	private static final Cache<String, Boolean> missingClasses = CacheBuilder.newBuilder().maximumSize(4096).build();
+	private static final AtomicInteger generation = new AtomicInteger();
+	final Map<String, Class<?>> classes = new ConcurrentHashMap<>();
 	final JarFile jarFile;
-	final Addon addon;
+	private final Set<String> packages = new HashSet<>();
+	private final AddonDescription description;
+	Addon addon;
 	private final File pluginFile;
 	private final URL url;
 	private final Manifest manifest;
 
-	public AddonClassLoader(final ClassLoader parent, final AddonDescription description, final File pluginFile) throws IOException, InvalidAddonException {
+	public AddonClassLoader(final ClassLoader parent, final AddonDescription description, final File pluginFile) throws IOException {
 		super(new URL[]{pluginFile.toURI().toURL()}, parent);
+		this.description = description;
 		this.pluginFile = pluginFile;
 		this.url = pluginFile.toURI().toURL();
 		this.jarFile = new JarFile(pluginFile);
 		this.manifest = jarFile.getManifest();
+		for (final Enumeration<JarEntry> entries = jarFile.entries(); entries.hasMoreElements(); ) {
+			final String entryName = entries.nextElement().getName();
+			if (entryName.endsWith(".class")) {
+				final int slash = entryName.lastIndexOf('/');
+				packages.add(slash == -1 ? "" : entryName.substring(0, slash).replace('/', '.'));
+			}
+		}
+	}
+
+	/**
+	 * 메인 클래스를 불러와 애드온 인스턴스를 생성하고, 이 클래스 로더를 전역 클래스 탐색에 등록합니다.
+	 * 애드온의 코드가 실행되므로 메인 스레드에서 호출해야 합니다.
+	 */
+	Addon initialize() throws InvalidAddonException {
 		try {
 			final Class<? extends Addon> addonClass;
 			try {
@@ -61,7 +97,22 @@ public class AddonClassLoader extends URLClassLoader {
 		} catch (IllegalAccessException ex) {
 			throw new InvalidAddonException("public 생성자가 존재하지 않습니다.", ex);
 		}
-		loaders.add(this);
+		register(this);
+		return addon;
+	}
+
+	private static void register(final AddonClassLoader loader) {
+		for (final String packageName : loader.packages) {
+			packageIndex.computeIfAbsent(packageName, key -> new CopyOnWriteArrayList<>()).add(loader);
+		}
+		loaders.add(loader);
+		generation.incrementAndGet();
+		missingClasses.invalidateAll();
+	}
+
+	private static String getPackageName(final String className) {
+		final int dot = className.lastIndexOf('.');
+		return dot == -1 ? "" : className.substring(0, dot);
 	}
 
 	public URL getResource(String name) {
@@ -76,21 +127,34 @@ public class AddonClassLoader extends URLClassLoader {
 		return loaders;
 	}
 
-	private static Class<?> getClassByName(String name) {
-		Class<?> clazz = cachedClasses.get(name);
-		if (clazz != null) {
-			return clazz;
-		} else {
-			for (AddonClassLoader loader : loaders) {
+	/**
+	 * 등록된 애드온 클래스 로더에서 클래스를 찾습니다.
+	 * 클래스의 패키지를 가진 애드온만 탐색하며, 어디에서도 찾지 못한 이름은 기억해두었다가 다시 탐색하지 않습니다.
+	 *
+	 * @param name 클래스 이름
+	 * @return 찾은 클래스, 찾지 못하였을 경우 null
+	 */
+	@Nullable
+	public static Class<?> getClassByName(String name) {
+		final Class<?> cached = cachedClasses.get(name);
+		if (cached != null) return cached;
+		if (missingClasses.getIfPresent(name) != null) return null;
+		final int generation = AddonClassLoader.generation.get();
+		final List<AddonClassLoader> candidates = packageIndex.get(getPackageName(name));
+		if (candidates != null) {
+			for (AddonClassLoader loader : candidates) {
 				try {
-					clazz = loader.findClass(name, false);
+					final Class<?> clazz = loader.findLocalClass(name);
+					if (clazz != null) return clazz;
 				} catch (ClassNotFoundException ignored) {
 				}
-				if (clazz != null) {
-					return clazz;
-				}
 			}
 		}
+		missingClasses.put(name, Boolean.TRUE);
+		if (generation != AddonClassLoader.generation.get()) {
+			// 탐색하는 동안 새 애드온이 등록되었다면 기록하지 않습니다.
+			missingClasses.invalidate(name);
+		}
 		return null;
 	}
 
@@ -103,6 +167,29 @@ public class AddonClassLoader extends URLClassLoader {
 		Class<?> result = classes.get(name);
 		if (result == null) {
 			if (global) result = getClassByName(name);
+			if (result == null) result = findLocalClass(name);
+			if (result == null) {
+				result = super.findClass(name);
+				cacheClass(name, result);
+			}
+			classes.put(name, result);
+		}
+		return result;
+	}
+
+	/**
+	 * 이 애드온 파일에 있는 클래스를 정의합니다.
+	 *
+	 * @return 정의된 클래스, 애드온 파일에 클래스가 없을 경우 null
+	 */
+	@Nullable
+	private Class<?> findLocalClass(String name) throws ClassNotFoundException {
+		Class<?> result = classes.get(name);
+		if (result != null) return result;
+		if (!packages.contains(getPackageName(name))) return null;
+		synchronized (getClassLoadingLock(name)) {
+			result = classes.get(name);
+			if (result == null) result = findLoadedClass(name);
 			if (result == null) {
 				String path = name.replace('.', '/').concat(".class");
 				JarEntry entry = jarFile.getJarEntry(path);
@@ -139,13 +226,11 @@ public class AddonClassLoader extends URLClassLoader {
 
 					result = defineClass(name, classBytes, 0, classBytes.length, source);
 				}
-				if (result == null) result = super.findClass(name);
-
-				if (result != null) {
-					cacheClass(name, result);
-				}
 			}
-			classes.put(name, result);
+			if (result != null) {
+				cacheClass(name, result);
+				classes.put(name, result);
+			}
 		}
 		return result;
 	}
@@ -171,4 +256,8 @@ public class AddonClassLoader extends URLClassLoader {
 		return addon;
 	}
 
+	public AddonDescription getDescription() {
+		return description;
+	}
+
 }
@@ -2,14 +2,34 @@ package daybreak.abilitywar.addon;
 
 import daybreak.abilitywar.addon.Addon.AddonDescription;
 import daybreak.abilitywar.addon.exception.InvalidAddonException;
+import daybreak.abilitywar.addon.exception.InvalidDescriptionException;
+import daybreak.abilitywar.utils.base.Messager;
 import daybreak.abilitywar.utils.base.io.FileUtil;
 import daybreak.abilitywar.utils.base.logging.Logger;
 import daybreak.abilitywar.utils.base.minecraft.version.ServerVersion;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 애드온에 직접적으로 엑세스하여 처리하는 로더입니다.
@@ -22,16 +42,172 @@ public class AddonLoader {
 	}
 
 	private static final Logger logger = Logger.getLogger(AddonLoader.class.getName());
-	private static final HashMap<String, Addon> addons = new HashMap<>();
+	private static final Map<String, Addon> addons = new LinkedHashMap<>();
 
 	/**
 	 * 애드온 디렉토리에 있는 모든 애드온을 불러옵니다.
+	 * <p>
+	 * 애드온 파일을 열고 addon.yml과 클래스 목록을 읽는 작업은 작업 스레드에서 병렬로 수행하고,
+	 * 메인 클래스를 불러와 인스턴스를 생성하는 작업은 메인 스레드에서 의존성 순서대로 수행합니다.
+	 * 존재하지 않거나 순환하는 의존성은 모두 모아 한 번에 출력하며, 해당 애드온만 불러오지 않습니다.
 	 */
 	public static void loadAll() {
-		for (final File file : FileUtil.newDirectory("Addon").listFiles()) {
-			if (file.isDirectory()) continue;
-			load(file);
+		final File[] files = FileUtil.newDirectory("Addon").listFiles(file -> !file.isDirectory());
+		if (files == null || files.length == 0) return;
+		Arrays.sort(files, Comparator.comparing(File::getName));
+
+		final long scanStart = System.nanoTime();
+		final Map<String, AddonClassLoader> scanned = scanAll(files);
+		final long scanTime = System.nanoTime() - scanStart;
+
+		final long sortStart = System.nanoTime();
+		final List<String> problems = new ArrayList<>();
+		final List<AddonClassLoader> order = sortByDependency(scanned, problems);
+		if (!problems.isEmpty()) {
+			logger.error("의존성 문제로 불러오지 않은 애드온이 있습니다.");
+			for (final String problem : problems) {
+				logger.error(problem);
+			}
+			final Set<AddonClassLoader> sorted = new HashSet<>(order);
+			for (final AddonClassLoader loader : scanned.values()) {
+				if (!sorted.contains(loader)) close(loader);
+			}
 		}
+		final long sortTime = System.nanoTime() - sortStart;
+
+		final long initStart = System.nanoTime();
+		for (final AddonClassLoader loader : order) {
+			final AddonDescription description = loader.getDescription();
+			if (!addons.keySet().containsAll(description.getDepend())) {
+				logger.error(description.getName() + ": 의존하는 애드온을 불러오지 못하여 불러오지 않습니다.");
+				close(loader);
+				continue;
+			}
+			try {
+				addons.put(description.getName(), loader.initialize());
+			} catch (Exception e) {
+				logger.error(loader.getPluginFile().getName() + " 애드온을 불러오는 도중 오류가 발생하였습니다.");
+				e.printStackTrace();
+				close(loader);
+			}
+		}
+		final long initTime = System.nanoTime() - initStart;
+		Messager.sendConsoleMessage("애드온 " + addons.size() + "/" + files.length + "개를 불러왔습니다. §7(검사 " + toMillis(scanTime) + "ms, 정렬 " + toMillis(sortTime) + "ms, 초기화 " + toMillis(initTime) + "ms)");
+	}
+
+	/**
+	 * 애드온 파일을 병렬로 열어 addon.yml과 클래스 목록을 읽습니다.
+	 *
+	 * @return 애드온 이름 -> 클래스 로더, 이름 순으로 정렬됨
+	 */
+	private static Map<String, AddonClassLoader> scanAll(final File[] files) {
+		final ExecutorService service = Executors.newFixedThreadPool(Math.min(files.length, Math.max(1, Runtime.getRuntime().availableProcessors())));
+		final List<Future<AddonClassLoader>> futures = new ArrayList<>(files.length);
+		for (final File file : files) {
+			futures.add(service.submit(() -> open(file)));
+		}
+		service.shutdown();
+		final Map<String, AddonClassLoader> scanned = new TreeMap<>();
+		for (int i = 0; i < files.length; i++) {
+			try {
+				final AddonClassLoader loader = futures.get(i).get();
+				final String name = loader.getDescription().getName();
+				if (checkAddon(name) || scanned.containsKey(name)) {
+					logger.error(files[i].getName() + " 애드온을 불러오는 도중 오류가 발생하였습니다.");
+					new InvalidAddonException(name + ": 중복되는 이름의 애드온이 존재하거나 이미 등록된 애드온입니다.").printStackTrace();
+					close(loader);
+					continue;
+				}
+				scanned.put(name, loader);
+			} catch (ExecutionException e) {
+				logger.error(files[i].getName() + " 애드온을 불러오는 도중 오류가 발생하였습니다.");
+				e.getCause().printStackTrace();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				logger.error(files[i].getName() + " 애드온을 불러오는 도중 오류가 발생하였습니다.");
+				e.printStackTrace();
+			}
+		}
+		return scanned;
+	}
+
+	private static AddonClassLoader open(final File file) throws InvalidAddonException, InvalidDescriptionException, IOException {
+		final AddonDescription description = new AddonDescription(file);
+		if (!ServerVersion.isAboveOrEqual(description.getMinVersion())) {
+			throw new InvalidAddonException(description.getName() + ": 이 서버 버전에서 지원되는 애드온이 아닙니다. (최소 " + description.getMinVersion().name() + ")");
+		}
+		return new AddonClassLoader(Addon.class.getClassLoader(), description, file);
+	}
+
+	/**
+	 * 의존하는 애드온이 먼저 오도록 정렬합니다. 같은 조건이라면 이름 순서를 따릅니다.
+	 *
+	 * @param problems 존재하지 않거나 순환하는 의존성이 기록될 목록
+	 * @return 정렬된 클래스 로더 목록, 의존성 문제가 있는 애드온과 그에 의존하는 애드온은 제외됨
+	 */
+	private static List<AddonClassLoader> sortByDependency(final Map<String, AddonClassLoader> loaders, final List<String> problems) {
+		final List<AddonClassLoader> order = new ArrayList<>(loaders.size());
+		final Map<String, Boolean> states = new HashMap<>();
+		final Deque<String> path = new ArrayDeque<>();
+		for (final String name : loaders.keySet()) {
+			visit(name, loaders, states, path, order, problems);
+		}
+		return order;
+	}
+
+	/**
+	 * @param states 애드온 이름 -> 탐색 상태. false는 탐색 중, true는 정렬 완료, null은 불러올 수 없음을 나타내며 키가 없으면 아직 탐색하지 않은 애드온
+	 * @return 애드온을 불러올 수 있는지 여부
+	 */
+	private static boolean visit(final String name, final Map<String, AddonClassLoader> loaders, final Map<String, Boolean> states, final Deque<String> path, final List<AddonClassLoader> order, final List<String> problems) {
+		if (states.containsKey(name)) {
+			final Boolean state = states.get(name);
+			if (state == null) return false;
+			if (!state) {
+				final StringJoiner cycle = new StringJoiner(" -> ", "순환 의존성: ", " -> " + name);
+				boolean inCycle = false;
+				for (final String each : path) {
+					if (each.equals(name)) inCycle = true;
+					if (inCycle) cycle.add(each);
+				}
+				problems.add(cycle.toString());
+			}
+			return state;
+		}
+		states.put(name, false);
+		path.addLast(name);
+		boolean loadable = true;
+		for (final String depend : loaders.get(name).getDescription().getDepend()) {
+			if (!loaders.containsKey(depend)) {
+				problems.add(name + ": 필요한 애드온 " + depend + "이(가) 존재하지 않습니다.");
+				loadable = false;
+			} else if (!visit(depend, loaders, states, path, order, problems)) {
+				if (!path.contains(depend)) {
+					problems.add(name + ": 의존하는 애드온 " + depend + "을(를) 불러올 수 없습니다.");
+				}
+				loadable = false;
+			}
+		}
+		path.removeLast();
+		if (loadable) {
+			states.put(name, true);
+			order.add(loaders.get(name));
+		} else {
+			states.put(name, null);
+		}
+		return loadable;
+	}
+
+	private static void close(final AddonClassLoader loader) {
+		try {
+			loader.close();
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	private static long toMillis(final long nanos) {
+		return TimeUnit.NANOSECONDS.toMillis(nanos);
 	}
 
 	/**
@@ -42,17 +218,25 @@ public class AddonLoader {
 	 */
 	public static Addon load(File file) {
 		try {
-			AddonDescription description = new AddonDescription(file);
-			String name = description.getName();
-			if (!ServerVersion.isAboveOrEqual(description.getMinVersion())) {
-				throw new InvalidAddonException(name + ": 이 서버 버전에서 지원되는 애드온이 아닙니다. (최소 " + description.getMinVersion().name() + ")");
-			}
-			final Addon instance = new AddonClassLoader(Addon.class.getClassLoader(), description, file).addon;
-			if (checkAddon(name)) {
-				throw new InvalidAddonException(name + ": 중복되는 이름의 애드온이 존재하거나 이미 등록된 애드온입니다.");
+			final AddonClassLoader loader = open(file);
+			final AddonDescription description = loader.getDescription();
+			final String name = description.getName();
+			try {
+				if (checkAddon(name)) {
+					throw new InvalidAddonException(name + ": 중복되는 이름의 애드온이 존재하거나 이미 등록된 애드온입니다.");
+				}
+				for (final String depend : description.getDepend()) {
+					if (!checkAddon(depend)) {
+						throw new InvalidAddonException(name + ": 필요한 애드온 " + depend + "이(가) 존재하지 않습니다.");
+					}
+				}
+				final Addon instance = loader.initialize();
+				addons.put(name, instance);
+				return instance;
+			} catch (Exception e) {
+				close(loader);
+				throw e;
 			}
-			addons.put(name, instance);
-			return instance;
 		} catch (Exception e) {
 			logger.error(file.getName() + " 애드온을 불러오는 도중 오류가 발생하였습니다.");
 			e.printStackTrace();
@@ -60,7 +244,12 @@ public class AddonLoader {
 		return null;
 	}
 
+	/**
+	 * 모든 애드온을 불러온 순서대로 활성화합니다. 의존하는 애드온이 항상 먼저 활성화됩니다.
+	 */
 	public static void enableAll() {
+		if (addons.isEmpty()) return;
+		final long start = System.nanoTime();
 		for (final Addon addon : addons.values()) {
 			try {
 				addon.onEnable();
@@ -72,10 +261,16 @@ public class AddonLoader {
 				}
 			}
 		}
+		Messager.sendConsoleMessage("애드온 " + addons.size() + "개를 활성화했습니다. §7(" + toMillis(System.nanoTime() - start) + "ms)");
 	}
 
+	/**
+	 * 모든 애드온을 불러온 순서의 역순으로 비활성화합니다.
+	 */
 	public static void disableAll() {
-		for (final Addon addon : addons.values()) {
+		final List<Addon> reversed = new ArrayList<>(addons.values());
+		Collections.reverse(reversed);
+		for (final Addon addon : reversed) {
 			try {
 				addon.onDisable();
 			} catch (Throwable e) {
@@ -21,20 +21,26 @@ public class CachedConfig<N extends Enum<N> & Node> {
 	private final EnumMap<N, Cache> cache;
 	private final N[] nodes;
 
-	private final File file;
-	private long lastModified;
-	private final FileConfiguration config;
+	private final ConfigWatcher.Handle<FileConfiguration> watcher;
+	private FileConfiguration config;
 
 	protected CachedConfig(final Class<N> enumClass, final String filePath) throws IOException, InvalidConfigurationException {
 		this.cache = new EnumMap<>(enumClass);
 		this.nodes = enumClass.getEnumConstants();
-		this.file = FileUtil.newFile(filePath);
-		this.lastModified = Long.MIN_VALUE;
+		final File file = FileUtil.newFile(filePath);
 		this.config = new FileConfiguration(file);
+		this.watcher = ConfigWatcher.watch(file, FileConfiguration::new);
 	}
 
 	public void update() throws IOException, InvalidConfigurationException {
 		config.load();
+		apply();
+	}
+
+	/**
+	 * 현재 불러와진 콘피그에 수정된 값을 반영하고 캐시를 다시 만든 뒤 저장합니다.
+	 */
+	private void apply() throws IOException {
 		for (Entry<N, Cache> entry : cache.entrySet()) {
 			final N node = entry.getKey();
 			final Cache cache = entry.getValue();
@@ -70,7 +76,7 @@ public class CachedConfig<N extends Enum<N> & Node> {
 			//v3.3.4: CommentedConfiguration 관련 오류 다수 발생에 따라 주석 처리
 		}
 		config.save();
-		lastModified = file.lastModified();
+		watcher.markSaved();
 	}
 
 	public FileConfiguration getConfig() {
@@ -79,11 +85,21 @@ public class CachedConfig<N extends Enum<N> & Node> {
 
 	@SuppressWarnings("unchecked") // private only method
 	protected <T> T get(N node) throws IllegalStateException {
-		if (lastModified != file.lastModified()) {
+		if (cache.isEmpty()) {
 			try {
 				update();
 			} catch (IOException | InvalidConfigurationException e) {
-				logger.log(Level.SEVERE, "콘피그를 다시 불러오는 도중 오류가 발생하였습니다.");
+				logger.log(Level.SEVERE, "콘피그를 불러오는 도중 오류가 발생하였습니다.");
+			}
+		} else {
+			final FileConfiguration loaded = watcher.poll();
+			if (loaded != null) {
+				this.config = loaded;
+				try {
+					apply();
+				} catch (IOException e) {
+					logger.log(Level.SEVERE, "콘피그를 다시 불러오는 도중 오류가 발생하였습니다.");
+				}
 			}
 		}
 		return (T) cache.get(node).getValue();
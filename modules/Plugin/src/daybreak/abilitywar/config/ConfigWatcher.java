@@ -0,0 +1,160 @@
+package daybreak.abilitywar.config;
+
+import daybreak.abilitywar.utils.base.logging.Logger;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link WatchService}로 콘피그 파일의 변경을 감지하는 감시자입니다.
+ * <p>
+ * 파일이 외부에서 수정되면 감시 스레드에서 파일을 새로 불러온 뒤, {@link Handle}을 통해 완성된 스냅샷을 게시합니다.
+ * 콘피그를 읽는 쪽에서는 매번 파일을 확인하는 대신 {@link Handle#poll()}로 게시된 스냅샷이 있는지만 확인하고,
+ * 있는 경우 메인 스레드에서 한 번에 교체합니다. 플러그인이 직접 저장한 변경 사항은 {@link Handle#markSaved()}로 무시합니다.
+ */
+public final class ConfigWatcher {
+
+	private static final Logger logger = Logger.getLogger(ConfigWatcher.class);
+
+	/**
+	 * 하나의 저장이 여러 개의 이벤트로 나뉘어 들어오는 경우를 합치기 위해 기다리는 시간 (밀리초)
+	 */
+	private static final long SETTLE_MILLIS = 100;
+
+	private static final Map<Path, Map<Path, Handle<?>>> directories = new ConcurrentHashMap<>();
+	private static WatchService service = null;
+	private static Thread thread = null;
+
+	private ConfigWatcher() {}
+
+	/**
+	 * 파일을 감시 대상으로 등록합니다.
+	 *
+	 * @param file   감시할 파일
+	 * @param loader 파일이 변경되었을 때 감시 스레드에서 스냅샷을 만들 로더
+	 */
+	public static synchronized <T> Handle<T> watch(final @NotNull File file, final @NotNull Loader<T> loader) {
+		final Path path = file.toPath().toAbsolutePath().normalize(), directory = path.getParent();
+		final Handle<T> handle = new Handle<>(file, loader);
+		try {
+			if (service == null) {
+				service = FileSystems.getDefault().newWatchService();
+				thread = new Thread(ConfigWatcher::run, "AbilityWar-ConfigWatcher");
+				thread.setDaemon(true);
+				thread.start();
+			}
+			if (!directories.containsKey(directory)) {
+				directory.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+				directories.put(directory, new ConcurrentHashMap<>());
+			}
+			directories.get(directory).put(path.getFileName(), handle);
+		} catch (IOException ex) {
+			logger.error(file.getName() + " 파일을 감시 대상으로 등록하는 도중 오류가 발생하였습니다.");
+			ex.printStackTrace();
+		}
+		return handle;
+	}
+
+	/**
+	 * 감시 스레드를 종료합니다.
+	 */
+	public static synchronized void shutdown() {
+		if (service != null) {
+			try {
+				service.close();
+			} catch (IOException ignored) {
+			}
+			thread.interrupt();
+			service = null;
+			thread = null;
+			directories.clear();
+		}
+	}
+
+	private static void run() {
+		final WatchService service = ConfigWatcher.service;
+		try {
+			while (true) {
+				final Set<Handle<?>> changed = new HashSet<>();
+				WatchKey key = service.take();
+				while (key != null) {
+					final Map<Path, Handle<?>> handles = directories.get((Path) key.watchable());
+					for (final WatchEvent<?> event : key.pollEvents()) {
+						if (handles == null || event.kind() == StandardWatchEventKinds.OVERFLOW) continue;
+						final Handle<?> handle = handles.get((Path) event.context());
+						if (handle != null) changed.add(handle);
+					}
+					key.reset();
+					key = service.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS);
+				}
+				for (final Handle<?> handle : changed) {
+					handle.reload();
+				}
+			}
+		} catch (InterruptedException | ClosedWatchServiceException ignored) {
+		}
+	}
+
+	@FunctionalInterface
+	public interface Loader<T> {
+		T load(File file) throws IOException, InvalidConfigurationException;
+	}
+
+	public static final class Handle<T> {
+
+		private final File file;
+		private final Loader<T> loader;
+		private final AtomicReference<T> pending = new AtomicReference<>();
+		private volatile long savedModified = Long.MIN_VALUE, savedLength = -1;
+
+		private Handle(final File file, final Loader<T> loader) {
+			this.file = file;
+			this.loader = loader;
+		}
+
+		/**
+		 * 감시 스레드에서 새로 불러온 스냅샷이 있다면 가져오고, 없다면 null을 반환합니다.
+		 * 스냅샷이 없는 경우 volatile 필드 하나만 읽습니다.
+		 */
+		@Nullable
+		public T poll() {
+			return pending.get() != null ? pending.getAndSet(null) : null;
+		}
+
+		/**
+		 * 플러그인이 파일을 저장한 직후 호출하여, 이 저장으로 발생하는 변경 이벤트를 무시하도록 합니다.
+		 */
+		public void markSaved() {
+			this.savedModified = file.lastModified();
+			this.savedLength = file.length();
+		}
+
+		private void reload() {
+			if (!file.exists() || (file.lastModified() == savedModified && file.length() == savedLength)) return;
+			try {
+				pending.set(loader.load(file));
+			} catch (IOException | InvalidConfigurationException ex) {
+				logger.error(file.getName() + " 파일을 다시 불러오는 도중 오류가 발생하였습니다.");
+				ex.printStackTrace();
+			}
+		}
+
+	}
+
+}
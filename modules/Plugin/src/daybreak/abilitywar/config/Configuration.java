@@ -31,7 +31,7 @@ public class Configuration {
 
 	private static final Logger logger = Logger.getLogger(Configuration.class.getName());
 	private static File file = null;
-	private static long lastModified;
+	private static ConfigWatcher.Handle<FileConfiguration> watcher = null;
 	private static FileConfiguration config = null;
 	private static boolean error = false;
 
@@ -47,14 +47,20 @@ public class Configuration {
 		if (!isLoaded()) {
 			try {
 				file = FileUtil.newFile("Config.yml");
-				lastModified = file.lastModified();
 				config = new FileConfiguration(file);
+				watcher = ConfigWatcher.watch(file, FileConfiguration::new);
 			} catch (IOException | InvalidConfigurationException e) {
 				error = true;
 			}
 		}
 		config.load();
+		apply();
+	}
 
+	/**
+	 * 현재 불러와진 콘피그에 수정된 값을 반영하고 캐시를 다시 만든 뒤 저장합니다.
+	 */
+	private static void apply() throws IOException {
 		for (Entry<ConfigNodes, Cache> entry : cache.entrySet()) {
 			ConfigNodes node = entry.getKey();
 			Cache cache = entry.getValue();
@@ -90,7 +96,7 @@ public class Configuration {
 			//v3.3.4: CommentedConfiguration 관련 오류 다수 발생에 따라 주석 처리
 		}
 		config.save();
-		lastModified = file.lastModified();
+		watcher.markSaved();
 	}
 
 	public static FileConfiguration getConfig() {
@@ -105,18 +111,20 @@ public class Configuration {
 			if (!isLoaded()) {
 				try {
 					file = FileUtil.newFile("Config.yml");
-					lastModified = file.lastModified();
 					config = new FileConfiguration(file);
+					watcher = ConfigWatcher.watch(file, FileConfiguration::new);
 					update();
 				} catch (IOException | InvalidConfigurationException e) {
 					error = true;
 				}
 				return get(configNode);
 			}
-			if (lastModified != file.lastModified()) {
+			final FileConfiguration loaded = watcher.poll();
+			if (loaded != null) {
+				config = loaded;
 				try {
-					update();
-				} catch (IOException | InvalidConfigurationException e) {
+					apply();
+				} catch (IOException e) {
 					logger.log(Level.SEVERE, "콘피그를 다시 불러오는 도중 오류가 발생하였습니다.");
 				}
 			}
@@ -251,6 +259,16 @@ public class Configuration {
 			return get(ConfigNodes.GAME_DURATION_TIMER_BEHAVIOR);
 		}
 
+		public static int getBlockRestoreBudget() {
+			final int budget = get(ConfigNodes.GAME_BLOCK_RESTORE_BUDGET);
+			return Math.max(1, budget);
+		}
+
+		public static int getBlockWriteBudget() {
+			final int budget = get(ConfigNodes.GAME_BLOCK_WRITE_BUDGET);
+			return Math.max(1, budget);
+		}
+
 		public static boolean isAutoWorldResetEnabled() {
 			return get(ConfigNodes.WORLD_RESET_ON_GAME_END);
 		}
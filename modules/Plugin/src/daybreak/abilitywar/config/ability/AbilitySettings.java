@@ -6,6 +6,7 @@ import com.google.common.collect.TreeBasedTable;
 import daybreak.abilitywar.ability.AbilityBase;
 import daybreak.abilitywar.ability.AbilityManifest;
 import daybreak.abilitywar.config.Cache;
+import daybreak.abilitywar.config.ConfigWatcher;
 import daybreak.abilitywar.config.interfaces.Configurable;
 import daybreak.abilitywar.utils.base.logging.Logger;
 import org.bukkit.configuration.InvalidConfigurationException;
@@ -18,6 +19,9 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -30,11 +34,12 @@ public class AbilitySettings {
 
 	private static final Logger logger = Logger.getLogger(AbilitySettings.class.getName());
 	private static final Map<String, AbilitySettings> abilitySettings = new HashMap<>();
+	private static final Map<String, AtomicInteger> revisions = new ConcurrentHashMap<>();
 	private final Table<String, String, SettingObject<?>> settings = TreeBasedTable.create();
 	private final File configFile;
-	private final YamlConfiguration config = new YamlConfiguration();
+	private final ConfigWatcher.Handle<YamlConfiguration> watcher;
+	private YamlConfiguration config = new YamlConfiguration();
 	private final Map<SettingObject<?>, Cache> cache = new HashMap<>();
-	private long lastModified;
 	private boolean error = false;
 	public AbilitySettings(File configFile) {
 		this.configFile = configFile;
@@ -48,13 +53,17 @@ public class AbilitySettings {
 				this.error = true;
 			}
 		}
-		this.lastModified = configFile.lastModified();
 		try {
 			config.load(configFile);
 		} catch (IOException | InvalidConfigurationException e) {
 			e.printStackTrace();
 			this.error = true;
 		}
+		this.watcher = ConfigWatcher.watch(configFile, file -> {
+			final YamlConfiguration config = new YamlConfiguration();
+			config.load(file);
+			return config;
+		});
 		abilitySettings.put(configFile.getName(), this);
 	}
 
@@ -62,6 +71,21 @@ public class AbilitySettings {
 		return abilitySettings.values();
 	}
 
+	/**
+	 * 능력의 설정 값이 실제로 바뀔 때마다 증가하는 값을 반환합니다.
+	 * 설정 값으로 만든 결과를 캐시해두고, 값이 바뀌었는지 확인할 때 사용합니다.
+	 *
+	 * @param abilityName 능력의 이름
+	 */
+	public static int getRevision(String abilityName) {
+		final AtomicInteger revision = revisions.get(abilityName);
+		return revision != null ? revision.get() : 0;
+	}
+
+	private static void increaseRevision(String abilityName) {
+		revisions.computeIfAbsent(abilityName, name -> new AtomicInteger()).incrementAndGet();
+	}
+
 	public static AbilitySettings getAbilitySetting(String fileName) {
 		return abilitySettings.get(fileName);
 	}
@@ -100,16 +124,23 @@ public class AbilitySettings {
 
 	private void _update() throws IOException, InvalidConfigurationException {
 		config.load(configFile);
+		apply();
+	}
 
+	/**
+	 * 현재 불러와진 콘피그에 수정된 값을 반영하고 캐시를 다시 만든 뒤 저장합니다.
+	 */
+	private void apply() throws IOException {
+		final Map<SettingObject<?>, Object> previous = new HashMap<>();
 		for (Entry<SettingObject<?>, Cache> entry : cache.entrySet()) {
 			final Cache cache = entry.getValue();
 			if (cache.isModifiedValue()) {
 				config.set(entry.getKey().getPath(), cache.getValue());
 			}
+			previous.put(entry.getKey(), cache.getValue());
 		}
 
 		cache.clear();
-		lastModified = configFile.lastModified();
 		for (SettingObject<?> setting : settings.values()) {
 			final Object value = config.get(setting.getPath());
 			if (value != null) {
@@ -118,19 +149,24 @@ public class AbilitySettings {
 				config.set(setting.getPath(), setting.getDefaultValue());
 				cache.put(setting, new Cache(false, setting.getDefaultValue()));
 			}
+			if (previous.containsKey(setting) && !Objects.equals(previous.get(setting), cache.get(setting).getValue())) {
+				increaseRevision(setting.abilityName);
+			}
 		}
 		config.save(configFile);
+		watcher.markSaved();
 	}
 
 	public class SettingObject<T> implements Configurable<T> {
 
-		private final String key, path;
+		private final String abilityName, key, path;
 		private final T defaultValue;
 		private final String[] comments;
 
 		public SettingObject(Class<? extends AbilityBase> abilityClass, String key, T defaultValue, String... comments) {
 			final AbilityManifest manifest = checkNotNull(abilityClass).getAnnotation(AbilityManifest.class);
 			if (manifest != null) {
+				this.abilityName = manifest.name();
 				this.path = "능력." + manifest.name() + "." + checkNotNull(key);
 			} else {
 				throw new IllegalArgumentException(abilityClass.getName() + " 클래스에 AbilityManifest 어노테이션이 존재하지 않습니다.");
@@ -173,10 +209,12 @@ public class AbilitySettings {
 				logger.log(Level.SEVERE, "콘피그가 불러와지는 도중 오류가 발생했습니다.");
 				throw new IllegalStateException("콘피그가 불러와지는 도중 오류가 발생했습니다.");
 			}
-			if (lastModified != configFile.lastModified()) {
+			final YamlConfiguration loaded = watcher.poll();
+			if (loaded != null) {
+				config = loaded;
 				try {
-					_update();
-				} catch (IOException | InvalidConfigurationException e) {
+					apply();
+				} catch (IOException e) {
 					logger.log(Level.SEVERE, "콘피그를 다시 불러오는 도중 오류가 발생하였습니다.");
 				}
 			}
@@ -207,7 +245,10 @@ public class AbilitySettings {
 		@Override
 		public boolean setValue(T value) {
 			if (condition(value)) {
-				cache.put(this, new Cache(true, value));
+				final Cache previous = cache.put(this, new Cache(true, value));
+				if (previous == null || !Objects.equals(previous.getValue(), value)) {
+					increaseRevision(abilityName);
+				}
 				return true;
 			}
 			return false;
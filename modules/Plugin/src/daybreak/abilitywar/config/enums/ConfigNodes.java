@@ -132,6 +132,12 @@ public enum ConfigNodes {
 			"# 라이트 능력 (간략화된 능력들) 사용 여부"),
 	GAME_USE_BETA_ABILITY("게임.베타능력사용", false,
 			"# 개발자 모드가 활성화된 경우 '베타 능력' 능력 추첨시 추첨 여부"),
+	GAME_BLOCK_RESTORE_BUDGET("게임.블록복구.틱당시간", 5,
+			"# 능력으로 변경된 블록을 복구할 때 한 틱에 사용할 최대 시간 (단위: 밀리초)",
+			"# 복구할 블록이 많으면 여러 틱에 나누어 복구합니다."),
+	GAME_BLOCK_WRITE_BUDGET("게임.블록변경.틱당시간", 5,
+			"# 능력이 넓은 범위의 블록을 변경할 때 한 틱에 사용할 최대 시간 (단위: 밀리초)",
+			"# 변경할 블록이 많으면 여러 틱에 나누어 변경합니다."),
 	WORLD_RESET_ON_GAME_END("월드초기화.자동", false,
 			"# 활성화하면 게임 종료 시 자동으로 월드 초기화 기능을 실행합니다."),
 	GAME_MODE("게임모드", StandardGame.class.getName(),
@@ -4,6 +4,7 @@ import com.google.common.collect.Table;
 import com.google.common.collect.Tables;
 import com.google.common.collect.TreeBasedTable;
 import daybreak.abilitywar.config.Cache;
+import daybreak.abilitywar.config.ConfigWatcher;
 import daybreak.abilitywar.config.FileConfiguration;
 import daybreak.abilitywar.config.interfaces.Configurable;
 import daybreak.abilitywar.game.AbstractGame;
@@ -44,7 +45,6 @@ public class GameSettings {
 				this.error = true;
 			}
 		}
-		this.lastModified = configFile.lastModified();
 		FileConfiguration config;
 		try {
 			config = new FileConfiguration(configFile);
@@ -53,18 +53,19 @@ public class GameSettings {
 			this.error = true;
 		}
 		this.config = config;
+		this.watcher = ConfigWatcher.watch(configFile, FileConfiguration::new);
 		gameSettings.put(configFile.getName(), this);
 	}
 
 	private final File configFile;
-	private final FileConfiguration config;
+	private final ConfigWatcher.Handle<FileConfiguration> watcher;
+	private FileConfiguration config;
 
 	public static Collection<GameSettings> getGameSettings() {
 		return gameSettings.values();
 	}
 
 	private final Map<Setting<?>, Cache> cache = new HashMap<>();
-	private long lastModified;
 	private boolean error = false;
 
 	public static GameSettings getGameSetting(String fileName) {
@@ -105,7 +106,13 @@ public class GameSettings {
 
 	private void _update() throws IOException, InvalidConfigurationException {
 		config.load();
+		apply();
+	}
 
+	/**
+	 * 현재 불러와진 콘피그에 수정된 값을 반영하고 캐시를 다시 만든 뒤 저장합니다.
+	 */
+	private void apply() throws IOException {
 		for (Entry<Setting<?>, Cache> entry : cache.entrySet()) {
 			final Cache cache = entry.getValue();
 			if (cache.isModifiedValue()) {
@@ -114,7 +121,6 @@ public class GameSettings {
 		}
 
 		cache.clear();
-		lastModified = configFile.lastModified();
 		for (Setting<?> setting : settings.values()) {
 			final Object value = config.get(setting.getPath());
 			if (value != null) {
@@ -127,6 +133,7 @@ public class GameSettings {
 			//v3.3.4: CommentedConfiguration 관련 오류 다수 발생에 따라 주석 처리
 		}
 		config.save();
+		watcher.markSaved();
 	}
 
 	public abstract class Setting<T> implements Configurable<T> {
@@ -179,10 +186,12 @@ public class GameSettings {
 				logger.error("콘피그가 불러와지는 도중 오류가 발생했습니다.");
 				throw new IllegalStateException("콘피그가 불러와지는 도중 오류가 발생했습니다.");
 			}
-			if (lastModified != configFile.lastModified()) {
+			final FileConfiguration loaded = watcher.poll();
+			if (loaded != null) {
+				config = loaded;
 				try {
-					_update();
-				} catch (IOException | InvalidConfigurationException e) {
+					apply();
+				} catch (IOException e) {
 					logger.error("콘피그를 다시 불러오는 도중 오류가 발생하였습니다.");
 				}
 			}
@@ -1,5 +1,6 @@
 package daybreak.abilitywar.config.wizard;
 
+import daybreak.abilitywar.ability.AbilityFactory;
 import daybreak.abilitywar.config.ability.AbilitySettings;
 import daybreak.abilitywar.config.ability.AbilitySettings.SettingObject;
 import daybreak.abilitywar.config.wizard.setter.Setter;
@@ -43,6 +44,7 @@ public class AbilitySettingWizard implements Listener {
 
 	public AbilitySettingWizard(Player player, Plugin plugin) {
 		this.player = player;
+		AbilityFactory.loadSettings();
 		Bukkit.getPluginManager().registerEvents(this, plugin);
 	}
 
@@ -3,8 +3,6 @@ package daybreak.abilitywar.game;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
-import com.google.common.collect.MultimapBuilder;
-import com.google.common.collect.SetMultimap;
 import daybreak.abilitywar.AbilityWar;
 import daybreak.abilitywar.ability.AbilityBase;
 import daybreak.abilitywar.ability.AbilityBase.ClickType;
@@ -24,18 +22,22 @@ import daybreak.abilitywar.game.event.customentity.CustomEntitySetLocationEvent;
 import daybreak.abilitywar.game.interfaces.IGame;
 import daybreak.abilitywar.game.manager.GameFactory;
 import daybreak.abilitywar.game.manager.GameFactory.GameRegistration;
+import daybreak.abilitywar.game.manager.effect.StatusIndicator;
 import daybreak.abilitywar.game.manager.effect.registry.EffectRegistry.EffectRegistration;
+import daybreak.abilitywar.game.manager.effect.registry.MovementRestriction;
 import daybreak.abilitywar.game.manager.object.CommandHandler;
+import daybreak.abilitywar.game.module.BlockJournal;
 import daybreak.abilitywar.game.module.DeathManager;
 import daybreak.abilitywar.game.module.EventManager;
 import daybreak.abilitywar.game.module.Module;
 import daybreak.abilitywar.game.module.ModuleBase;
-import daybreak.abilitywar.utils.base.Hashes;
+import daybreak.abilitywar.utils.base.TimeUtil;
 import daybreak.abilitywar.utils.base.collect.QueueOnIterateHashSet;
 import daybreak.abilitywar.utils.base.concurrent.SimpleTimer;
 import daybreak.abilitywar.utils.base.concurrent.TimeUnit;
 import daybreak.abilitywar.utils.base.io.FileUtil;
 import daybreak.abilitywar.utils.base.logging.Logger;
+import daybreak.abilitywar.utils.base.minecraft.WorldReset;
 import daybreak.abilitywar.utils.base.minecraft.boundary.BoundingBox;
 import daybreak.abilitywar.utils.base.minecraft.nms.NMS;
 import org.bukkit.Bukkit;
@@ -57,6 +59,7 @@ import org.bukkit.event.entity.PlayerDeathEvent;
 import org.bukkit.event.player.PlayerInteractAtEntityEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.event.player.PlayerLoginEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -124,6 +127,9 @@ public abstract class AbstractGame extends SimpleTimer implements IGame, Listene
 	private final GameRegistration<?> registration;
 	protected final ParticipantStrategy participantStrategy;
 	private final EventManager eventManager = addModule(new EventManager());
+	private final BlockJournal blockJournal = addModule(new BlockJournal());
+	private final ParticipantListener participantListener = new ParticipantListener();
+	private final List<Participant.ActionbarNotification> dirtyActionbars = new ArrayList<>();
 
 	public AbstractGame(Collection<Player> players) throws IllegalArgumentException {
 		super(TaskType.INFINITE, -1);
@@ -137,7 +143,7 @@ public abstract class AbstractGame extends SimpleTimer implements IGame, Listene
 
 	@Override
 	public boolean start() {
-		if (GameManager.currentGame == null && super.start()) {
+		if (GameManager.currentGame == null && !WorldReset.isResetting() && super.start()) {
 			GameManager.currentGame = this;
 			return true;
 		}
@@ -183,6 +189,15 @@ public abstract class AbstractGame extends SimpleTimer implements IGame, Listene
 		return eventManager;
 	}
 
+	/**
+	 * 게임 중 변경된 블록을 기록하는 BlockJournal을 반환합니다.
+	 * <p>
+	 * null을 반환하지 않습니다.
+	 */
+	public BlockJournal getBlockJournal() {
+		return blockJournal;
+	}
+
 	public GameRegistration<?> getRegistration() {
 		return registration;
 	}
@@ -288,10 +303,12 @@ public abstract class AbstractGame extends SimpleTimer implements IGame, Listene
 			participant.removeAbility();
 		}
 		HandlerList.unregisterAll(this);
+		HandlerList.unregisterAll(participantListener);
 		for (final Iterator<Module> iterator = modules.values().iterator(); iterator.hasNext();) {
 			iterator.next().unregister();
 			iterator.remove();
 		}
+		StatusIndicator.clear();
 		observers.forEach(observer -> observer.update(GameUpdate.END));
 		Bukkit.broadcastMessage("§7게임이 중지되었습니다.");
 		Bukkit.getPluginManager().callEvent(new GameEndEvent(this));
@@ -302,116 +319,191 @@ public abstract class AbstractGame extends SimpleTimer implements IGame, Listene
 		this.onEnd();
 	}
 
+	/**
+	 * 이번 틱에 채널이 갱신된 액션바를 한 번씩만 조합하여 전송합니다.
+	 */
+	private void composeActionbars() {
+		try {
+			for (final Participant.ActionbarNotification actionbar : dirtyActionbars) {
+				try {
+					actionbar.compose();
+				} catch (Exception e) {
+					logger.error("액션바를 조합하는 도중 오류가 발생하였습니다.");
+					e.printStackTrace();
+				}
+			}
+		} finally {
+			dirtyActionbars.clear();
+		}
+	}
+
+	/**
+	 * 모든 {@link Participant}의 이벤트를 한 번에 수신하여 UUID로 해당 참가자에게 전달하는 리스너입니다.
+	 * 참가자 수와 관계없이 이벤트 하나당 한 번의 조회만 수행합니다.
+	 */
+	private final class ParticipantListener implements Listener {
+
+		private ParticipantListener() {
+			Bukkit.getPluginManager().registerEvents(this, AbilityWar.getPlugin());
+		}
+
+		@EventHandler
+		private void onPlayerLogin(PlayerLoginEvent e) {
+			final Participant participant = getParticipant(e.getPlayer().getUniqueId());
+			if (participant != null) participant.onPlayerLogin(e);
+		}
+
+		@EventHandler
+		private void onPlayerInteract(PlayerInteractEvent e) {
+			final Participant participant = getParticipant(e.getPlayer().getUniqueId());
+			if (participant != null) participant.onPlayerInteract(e);
+		}
+
+		@EventHandler
+		private void onPlayerInteractAtEntity(PlayerInteractAtEntityEvent e) {
+			final Participant participant = getParticipant(e.getPlayer().getUniqueId());
+			if (participant != null) participant.onPlayerInteractAtEntity(e);
+		}
+
+		@EventHandler
+		private void onPlayerDeath(PlayerDeathEvent e) {
+			final Participant participant = getParticipant(e.getEntity().getUniqueId());
+			if (participant != null) participant.onPlayerDeath(e);
+		}
+
+		@EventHandler
+		private void onPlayerMove(PlayerMoveEvent e) {
+			final Participant participant = getParticipant(e.getPlayer().getUniqueId());
+			if (participant != null && participant.movementRestricted != 0) participant.onPlayerMove(e);
+		}
+
+	}
+
 	public abstract class Participant implements AbstractGame.Observer {
 
 		private final Multimap<EffectRegistration<?>, Effect> effects = HashMultimap.create();
 		private final ActionbarNotification actionbarNotification = new ActionbarNotification();
 		private @NotNull Player player;
-		private final Listener listener;
+		private long lastClick = System.currentTimeMillis();
+		/**
+		 * 적용 중인 효과들이 막고 있는 {@link MovementRestriction}별 효과 수
+		 */
+		private final int[] movementRestrictions = new int[MovementRestriction.values().length];
+		private int movementRestricted = 0;
 
 		protected Participant(@NotNull Player player) {
 			this.player = player;
-			this.listener = new Listener() {
-				private long lastClick = System.currentTimeMillis();
+		}
 
-				@EventHandler
-				public void onPlayerLogin(PlayerLoginEvent e) {
-					if (e.getPlayer().getUniqueId().equals(Participant.this.player.getUniqueId())) {
-						Participant.this.player = e.getPlayer();
-					}
-				}
+		private void onPlayerLogin(PlayerLoginEvent e) {
+			this.player = e.getPlayer();
+		}
 
-				@EventHandler
-				public void onPlayerInteract(PlayerInteractEvent e) {
-					if (e.useItemInHand() == Result.DENY || e.getAction() == Action.PHYSICAL) return;
-					final Player player = e.getPlayer();
-					if (player.equals(getPlayer()) && hasAbility()) {
-						final AbilityBase ability = getAbility();
-						if (ability instanceof ActiveHandler && !ability.isRestricted()) {
-							final Material material = player.getInventory().getItemInMainHand().getType();
-							if (NMS.hasCooldown(player, material)) return;
-							if (ability.usesMaterial(material)) {
-								final long current = System.currentTimeMillis();
-								if (current - lastClick >= 250) {
-									final ClickType clickType = e.getAction().equals(Action.RIGHT_CLICK_AIR) || e.getAction().equals(Action.RIGHT_CLICK_BLOCK) ? ClickType.RIGHT_CLICK : ClickType.LEFT_CLICK;
-									final AbilityPreActiveSkillEvent preEvent = new AbilityPreActiveSkillEvent(ability, material, clickType);
-									Bukkit.getPluginManager().callEvent(preEvent);
-									if (!preEvent.isCancelled()) {
-										this.lastClick = current;
-										if (((ActiveHandler) ability).ActiveSkill(material, clickType)) {
-											Bukkit.getPluginManager().callEvent(new AbilityActiveSkillEvent(ability, material, clickType));
-											ability.getPlayer().sendMessage("§d능력을 사용하였습니다.");
-										}
-									}
+		private void onPlayerInteract(PlayerInteractEvent e) {
+			if (e.useItemInHand() == Result.DENY || e.getAction() == Action.PHYSICAL) return;
+			final Player player = e.getPlayer();
+			if (hasAbility()) {
+				final AbilityBase ability = getAbility();
+				if (ability instanceof ActiveHandler && !ability.isRestricted()) {
+					final Material material = player.getInventory().getItemInMainHand().getType();
+					if (NMS.hasCooldown(player, material)) return;
+					if (ability.usesMaterial(material)) {
+						final long current = System.currentTimeMillis();
+						if (current - lastClick >= 250) {
+							final ClickType clickType = e.getAction().equals(Action.RIGHT_CLICK_AIR) || e.getAction().equals(Action.RIGHT_CLICK_BLOCK) ? ClickType.RIGHT_CLICK : ClickType.LEFT_CLICK;
+							final AbilityPreActiveSkillEvent preEvent = new AbilityPreActiveSkillEvent(ability, material, clickType);
+							Bukkit.getPluginManager().callEvent(preEvent);
+							if (!preEvent.isCancelled()) {
+								this.lastClick = current;
+								if (((ActiveHandler) ability).ActiveSkill(material, clickType)) {
+									Bukkit.getPluginManager().callEvent(new AbilityActiveSkillEvent(ability, material, clickType));
+									ability.getPlayer().sendMessage("§d능력을 사용하였습니다.");
 								}
 							}
 						}
 					}
 				}
+			}
+		}
 
-				@EventHandler
-				public void onPlayerInteractAtEntity(PlayerInteractAtEntityEvent e) {
-					if (e.isCancelled()) return;
-					final Player player = e.getPlayer();
-					if (player.equals(getPlayer()) && !e.isCancelled() && hasAbility()) {
-						final AbilityBase ability = getAbility();
-						if ((ability instanceof ActiveHandler || ability instanceof TargetHandler) && !ability.isRestricted()) {
-							final Material material = player.getInventory().getItemInMainHand().getType();
-							if (NMS.hasCooldown(player, material)) return;
-							if (ability.usesMaterial(material)) {
-								long current = System.currentTimeMillis();
-								if (current - lastClick >= 250) {
-									if (ability instanceof ActiveHandler && ((ActiveHandler) ability).ActiveSkill(material, ClickType.RIGHT_CLICK)) {
-										Bukkit.getPluginManager().callEvent(new AbilityActiveSkillEvent(ability, material, ClickType.RIGHT_CLICK));
-										ability.getPlayer().sendMessage("§d능력을 사용하였습니다.");
-										return;
-									}
-									if (ability instanceof TargetHandler) {
-										final Entity targetEntity = e.getRightClicked();
-										if (targetEntity instanceof LivingEntity) {
-											if (targetEntity instanceof Player) {
-												final Player targetPlayer = (Player) targetEntity;
-												if (isParticipating(targetPlayer)) {
-													if (AbstractGame.this instanceof DeathManager.Handler && ((DeathManager.Handler) AbstractGame.this).getDeathManager().isExcluded(targetPlayer))
-														return;
-													if (!getParticipant(targetPlayer).attributes().TARGETABLE.getValue())
-														return;
-
-													this.lastClick = current;
-													final AbilityPreTargetEvent event = new AbilityPreTargetEvent(ability, material, targetPlayer);
-													if (!event.isCancelled()) {
-														((TargetHandler) ability).TargetSkill(event.getMaterial(), event.getTarget());
-													}
-												}
-											} else {
-												this.lastClick = current;
-												final AbilityPreTargetEvent event = new AbilityPreTargetEvent(ability, material, (LivingEntity) targetEntity);
-												if (!event.isCancelled()) {
-													((TargetHandler) ability).TargetSkill(event.getMaterial(), event.getTarget());
-												}
+		private void onPlayerInteractAtEntity(PlayerInteractAtEntityEvent e) {
+			if (e.isCancelled()) return;
+			final Player player = e.getPlayer();
+			if (hasAbility()) {
+				final AbilityBase ability = getAbility();
+				if ((ability instanceof ActiveHandler || ability instanceof TargetHandler) && !ability.isRestricted()) {
+					final Material material = player.getInventory().getItemInMainHand().getType();
+					if (NMS.hasCooldown(player, material)) return;
+					if (ability.usesMaterial(material)) {
+						long current = System.currentTimeMillis();
+						if (current - lastClick >= 250) {
+							if (ability instanceof ActiveHandler && ((ActiveHandler) ability).ActiveSkill(material, ClickType.RIGHT_CLICK)) {
+								Bukkit.getPluginManager().callEvent(new AbilityActiveSkillEvent(ability, material, ClickType.RIGHT_CLICK));
+								ability.getPlayer().sendMessage("§d능력을 사용하였습니다.");
+								return;
+							}
+							if (ability instanceof TargetHandler) {
+								final Entity targetEntity = e.getRightClicked();
+								if (targetEntity instanceof LivingEntity) {
+									if (targetEntity instanceof Player) {
+										final Player targetPlayer = (Player) targetEntity;
+										if (isParticipating(targetPlayer)) {
+											if (AbstractGame.this instanceof DeathManager.Handler && ((DeathManager.Handler) AbstractGame.this).getDeathManager().isExcluded(targetPlayer))
+												return;
+											if (!getParticipant(targetPlayer).attributes().TARGETABLE.getValue())
+												return;
+
+											this.lastClick = current;
+											final AbilityPreTargetEvent event = new AbilityPreTargetEvent(ability, material, targetPlayer);
+											if (!event.isCancelled()) {
+												((TargetHandler) ability).TargetSkill(event.getMaterial(), event.getTarget());
 											}
 										}
+									} else {
+										this.lastClick = current;
+										final AbilityPreTargetEvent event = new AbilityPreTargetEvent(ability, material, (LivingEntity) targetEntity);
+										if (!event.isCancelled()) {
+											((TargetHandler) ability).TargetSkill(event.getMaterial(), event.getTarget());
+										}
 									}
 								}
 							}
 						}
 					}
 				}
+			}
+		}
 
-				@EventHandler
-				public void onPlayerDeath(PlayerDeathEvent e) {
-					final Player player = e.getEntity();
-					if (player.equals(getPlayer())) {
-						for (final Iterator<Entry<EffectRegistration<?>, Effect>> iterator = effects.entries().iterator(); iterator.hasNext();) {
-							final Entry<EffectRegistration<?>, Effect> entry = iterator.next();
-							iterator.remove();
-							entry.getValue().stop(false);
-						}
-					}
-				}
-			};
-			attachObserver(this);
-			Bukkit.getPluginManager().registerEvents(listener, AbilityWar.getPlugin());
+		private void onPlayerMove(PlayerMoveEvent e) {
+			final Location from = e.getFrom(), to = e.getTo();
+			if (to == null) return;
+			if (movementRestrictions[MovementRestriction.HORIZONTAL.ordinal()] != 0) {
+				to.setX(from.getX());
+				to.setZ(from.getZ());
+			}
+			if (movementRestrictions[MovementRestriction.VERTICAL.ordinal()] != 0) {
+				to.setY(from.getY());
+			}
+			if (movementRestrictions[MovementRestriction.ROTATION.ordinal()] != 0) {
+				to.setYaw(from.getYaw());
+				to.setPitch(from.getPitch());
+			}
+			e.setTo(to);
+		}
+
+		private void restrictMovement(final EffectRegistration<?> registration, final int delta) {
+			for (final MovementRestriction restriction : registration.getMovementRestrictions()) {
+				movementRestrictions[restriction.ordinal()] += delta;
+				movementRestricted += delta;
+			}
+		}
+
+		private void onPlayerDeath(PlayerDeathEvent e) {
+			for (final Iterator<Entry<EffectRegistration<?>, Effect>> iterator = effects.entries().iterator(); iterator.hasNext();) {
+				final Entry<EffectRegistration<?>, Effect> entry = iterator.next();
+				iterator.remove();
+				entry.getValue().stop(false);
+			}
 		}
 
 		public boolean hasEffect(final EffectRegistration<?> registration) {
@@ -468,11 +560,7 @@ public abstract class AbstractGame extends SimpleTimer implements IGame, Listene
 		}
 
 		@Override
-		public void update(GameUpdate update) {
-			if (update.equals(GameUpdate.END)) {
-				HandlerList.unregisterAll(listener);
-			}
-		}
+		public void update(GameUpdate update) {}
 
 		public abstract void setAbility(final AbilityRegistration registration) throws ReflectiveOperationException, UnsupportedOperationException;
 
@@ -571,13 +659,31 @@ public abstract class AbstractGame extends SimpleTimer implements IGame, Listene
 
 			private final Set<ActionbarChannel> channels = Collections.synchronizedSet(new HashSet<>());
 			private String lastString = "";
+			private boolean dirty = false, sent = false;
 
 			private ActionbarNotification() {
 				super(TaskType.INFINITE, -1);
 				start();
 			}
 
+			/**
+			 * 액션바를 바로 전송하지 않고, 다음 틱에 한 번만 조합되도록 표시합니다.
+			 */
 			private void update() {
+				if (!dirty) {
+					this.dirty = true;
+					if (dirtyActionbars.isEmpty()) {
+						Bukkit.getScheduler().runTask(AbilityWar.getPlugin(), AbstractGame.this::composeActionbars);
+					}
+					dirtyActionbars.add(this);
+				}
+			}
+
+			/**
+			 * 채널의 문자열을 조합하여, 마지막으로 전송한 문자열과 다른 경우에만 전송합니다.
+			 */
+			private void compose() {
+				this.dirty = false;
 				final StringJoiner joiner = new StringJoiner(ChatColor.WHITE + " | ");
 				for (ActionbarChannel channel : channels) {
 					if (channel.string != null) {
@@ -585,9 +691,10 @@ public abstract class AbstractGame extends SimpleTimer implements IGame, Listene
 					}
 				}
 				final String string = joiner.toString();
-				if (!string.isEmpty() || !lastString.isEmpty()) {
+				if (!string.equals(lastString)) {
 					NMS.sendActionbar(getPlayer(), string, 0, 20, 20);
 					this.lastString = string;
+					this.sent = true;
 				}
 			}
 
@@ -604,11 +711,10 @@ public abstract class AbstractGame extends SimpleTimer implements IGame, Listene
 				}
 				if (updated) {
 					update();
-				} else {
-					if (!lastString.isEmpty()) {
-						NMS.sendActionbar(getPlayer(), lastString, 0, 20, 20);
-					}
+				} else if (!sent && !lastString.isEmpty()) {
+					NMS.sendActionbar(getPlayer(), lastString, 0, 20, 20);
 				}
+				this.sent = false;
 			}
 
 			public ActionbarChannel newChannel() {
@@ -731,10 +837,19 @@ public abstract class AbstractGame extends SimpleTimer implements IGame, Listene
 
 	}
 
-	private final SetMultimap<Integer, CustomEntity> customEntities = MultimapBuilder.hashKeys().hashSetValues().build();
+	private final CustomEntityGrid customEntities = new CustomEntityGrid();
+
+	/**
+	 * {@link CustomEntity}의 공간 색인을 반환합니다.
+	 */
+	public CustomEntityGrid getCustomEntityGrid() {
+		return customEntities;
+	}
 
 	public List<CustomEntity> getCustomEntities(Chunk chunk) {
-		return new ArrayList<>(customEntities.get(Hashes.hashCode(chunk.getX(), chunk.getZ())));
+		final List<CustomEntity> entities = new ArrayList<>();
+		customEntities.forEach(chunk.getWorld(), chunk.getX(), chunk.getZ(), entities::add);
+		return entities;
 	}
 
 	public abstract class CustomEntity {
@@ -743,15 +858,15 @@ public abstract class AbstractGame extends SimpleTimer implements IGame, Listene
 		private final CustomEntityBoundingBox boundingBox = new CustomEntityBoundingBox(0, 0, 0, 0, 0, 0);
 		private World world;
 		private double x, y, z;
-		private int lastChunkHash;
+		CustomEntityGrid.Bucket bucket;
+		int bucketIndex;
 
 		public CustomEntity(World world, double x, double y, double z) {
 			this.world = Preconditions.checkNotNull(world);
 			this.x = x;
 			this.y = y;
 			this.z = z;
-			this.lastChunkHash = Hashes.hashCode((int) x >> 4, (int) z >> 4);
-			customEntities.put(lastChunkHash, this);
+			customEntities.add(this);
 		}
 
 		public World getWorld() {
@@ -760,6 +875,7 @@ public abstract class AbstractGame extends SimpleTimer implements IGame, Listene
 
 		public void setWorld(World world) {
 			this.world = Preconditions.checkNotNull(world);
+			updateLocation();
 		}
 
 		public double x() {
@@ -803,11 +919,8 @@ public abstract class AbstractGame extends SimpleTimer implements IGame, Listene
 		}
 
 		private void updateLocation() {
-			final int chunkHash = Hashes.hashCode((int) x >> 4, (int) z >> 4);
-			if (this.lastChunkHash != chunkHash) {
-				customEntities.remove(lastChunkHash, this);
-				this.lastChunkHash = chunkHash;
-				customEntities.put(chunkHash, this);
+			if (valid) {
+				customEntities.update(this);
 			}
 		}
 
@@ -826,7 +939,7 @@ public abstract class AbstractGame extends SimpleTimer implements IGame, Listene
 
 		public void remove() {
 			this.valid = false;
-			customEntities.remove(lastChunkHash, this);
+			customEntities.remove(this);
 			onRemove();
 		}
 
@@ -848,6 +961,21 @@ public abstract class AbstractGame extends SimpleTimer implements IGame, Listene
 				return CustomEntity.this.getLocation().toVector();
 			}
 
+			@Override
+			public double getCenterX() {
+				return CustomEntity.this.getX();
+			}
+
+			@Override
+			public double getCenterY() {
+				return CustomEntity.this.getY();
+			}
+
+			@Override
+			public double getCenterZ() {
+				return CustomEntity.this.getZ();
+			}
+
 			@Override
 			public @NotNull CustomEntityBoundingBox resize(double x1, double y1, double z1, double x2, double y2, double z2) {
 				super.resize(x1, y1, z1, x2, y2, z2);
@@ -922,12 +1050,15 @@ public abstract class AbstractGame extends SimpleTimer implements IGame, Listene
 		private final EffectRegistration<?> registration;
 		private final Participant participant;
 		private final ActionbarChannel channel;
+		private final String prefix;
+		private boolean restricting = false;
 
 		protected Effect(final EffectRegistration<?> registration, final Participant participant, final int maximumCount) {
 			super(TaskType.REVERSE, maximumCount);
 			this.registration = registration;
 			this.participant = participant;
 			this.channel = participant.actionbar().newChannel();
+			this.prefix = registration.getManifest().displayName() + "§7: §f";
 		}
 
 		@Override
@@ -935,18 +1066,20 @@ public abstract class AbstractGame extends SimpleTimer implements IGame, Listene
 			if (!channel.isValid()) return false;
 			if (super.start()) {
 				participant.effects.put(registration, this);
+				participant.restrictMovement(registration, 1);
+				this.restricting = true;
 				return true;
 			} else return false;
 		}
 
 		@Override
 		protected void run(int count) {
-			channel.update(registration.getManifest().displayName() + "§7: §f" + Math.floor(count / (20.0 / getPeriod()) * 100) / 100 + "초");
+			channel.update(prefix + TimeUtil.parseTicksAsSeconds(count * getPeriod()) + "초");
 		}
 
 		@Override
 		protected void onCountSet() {
-			channel.update(registration.getManifest().displayName() + "§7: §f" + Math.floor(getCount() / (20.0 / getPeriod()) * 100) / 100 + "초");
+			channel.update(prefix + TimeUtil.parseTicksAsSeconds(getCount() * getPeriod()) + "초");
 		}
 
 		@Override
@@ -958,6 +1091,10 @@ public abstract class AbstractGame extends SimpleTimer implements IGame, Listene
 		protected void onSilentEnd() {
 			channel.unregister();
 			participant.effects.remove(registration, this);
+			if (restricting) {
+				this.restricting = false;
+				participant.restrictMovement(registration, -1);
+			}
 		}
 
 		public Participant getParticipant() {
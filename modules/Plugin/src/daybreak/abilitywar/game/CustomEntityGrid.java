@@ -0,0 +1,199 @@
+package daybreak.abilitywar.game;
+
+import daybreak.abilitywar.game.AbstractGame.CustomEntity;
+import daybreak.abilitywar.utils.base.minecraft.boundary.BoundingBox;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.util.Vector;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * 월드별로 {@link CustomEntity}를 청크 단위로 색인하는 공간 격자입니다.
+ * <p>
+ * 청크 좌표는 {@link #pack(int, int)}로 하나의 long 키로 합쳐 사용하므로 서로 다른 청크가 충돌하지 않습니다.
+ * 모든 탐색 메소드는 중간 목록을 만들지 않고 조건에 맞는 엔티티를 바로 전달하며,
+ * 탐색 도중 전달받은 엔티티를 제거하거나 이동시켜도 안전합니다.
+ */
+public final class CustomEntityGrid {
+
+	private final Map<UUID, Map<Long, Bucket>> worlds = new HashMap<>();
+	private int size = 0;
+
+	CustomEntityGrid() {}
+
+	public static long pack(final int chunkX, final int chunkZ) {
+		return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+	}
+
+	public static int toChunk(final double coordinate) {
+		return Location.locToBlock(coordinate) >> 4;
+	}
+
+	/**
+	 * 색인된 커스텀 엔티티의 수를 반환합니다.
+	 */
+	public int size() {
+		return size;
+	}
+
+	void add(final CustomEntity entity) {
+		final long key = pack(toChunk(entity.x()), toChunk(entity.z()));
+		final UUID world = entity.getWorld().getUID();
+		Bucket bucket = getBucket(world, key);
+		if (bucket == null) {
+			bucket = new Bucket(world, key);
+			worlds.computeIfAbsent(world, uuid -> new HashMap<>()).put(key, bucket);
+		}
+		bucket.add(entity);
+		size++;
+	}
+
+	void remove(final CustomEntity entity) {
+		final Bucket bucket = entity.bucket;
+		if (bucket != null) {
+			bucket.remove(entity);
+			if (bucket.size == 0) {
+				final Map<Long, Bucket> buckets = worlds.get(bucket.world);
+				buckets.remove(bucket.key);
+				if (buckets.isEmpty()) worlds.remove(bucket.world);
+			}
+			size--;
+		}
+	}
+
+	/**
+	 * 엔티티의 월드 또는 청크가 바뀐 경우 색인을 갱신합니다.
+	 */
+	void update(final CustomEntity entity) {
+		final Bucket bucket = entity.bucket;
+		if (bucket == null || bucket.key != pack(toChunk(entity.x()), toChunk(entity.z())) || !bucket.world.equals(entity.getWorld().getUID())) {
+			remove(entity);
+			add(entity);
+		}
+	}
+
+	private Bucket getBucket(final UUID world, final long key) {
+		final Map<Long, Bucket> buckets = worlds.get(world);
+		return buckets != null ? buckets.get(key) : null;
+	}
+
+	/**
+	 * 한 청크에 있는 커스텀 엔티티를 모두 전달합니다.
+	 */
+	public void forEach(final @NotNull World world, final int chunkX, final int chunkZ, final @NotNull Consumer<? super CustomEntity> consumer) {
+		final Bucket bucket = getBucket(world.getUID(), pack(chunkX, chunkZ));
+		if (bucket != null) bucket.forEach(consumer);
+	}
+
+	/**
+	 * 청크 좌표 범위 안에 있는 커스텀 엔티티를 모두 전달합니다.
+	 */
+	public void forEach(final @NotNull World world, final int minChunkX, final int minChunkZ, final int maxChunkX, final int maxChunkZ, final @NotNull Consumer<? super CustomEntity> consumer) {
+		final Map<Long, Bucket> buckets = worlds.get(world.getUID());
+		if (buckets == null) return;
+		for (int x = minChunkX; x <= maxChunkX; x++) {
+			for (int z = minChunkZ; z <= maxChunkZ; z++) {
+				final Bucket bucket = buckets.get(pack(x, z));
+				if (bucket != null) bucket.forEach(consumer);
+			}
+		}
+	}
+
+	/**
+	 * 바운딩 박스와 충돌하는 커스텀 엔티티를 모두 전달합니다.
+	 */
+	public void forEachConflicting(final @NotNull World world, final @NotNull BoundingBox boundingBox, final @NotNull Consumer<? super CustomEntity> consumer) {
+		forEach(world, toChunk(boundingBox.getMinX()), toChunk(boundingBox.getMinZ()), toChunk(boundingBox.getMaxX()), toChunk(boundingBox.getMaxZ()), entity -> {
+			if (boundingBox.conflicts(entity.getBoundingBox())) {
+				consumer.accept(entity);
+			}
+		});
+	}
+
+	/**
+	 * 위치가 구 안에 있는 커스텀 엔티티를 모두 전달합니다.
+	 */
+	public void forEachInSphere(final @NotNull World world, final double x, final double y, final double z, final double radius, final @NotNull Consumer<? super CustomEntity> consumer) {
+		final double radiusSquared = radius * radius;
+		forEach(world, toChunk(x - radius), toChunk(z - radius), toChunk(x + radius), toChunk(z + radius), entity -> {
+			final double dx = entity.x() - x, dy = entity.y() - y, dz = entity.z() - z;
+			if ((dx * dx) + (dy * dy) + (dz * dz) <= radiusSquared) {
+				consumer.accept(entity);
+			}
+		});
+	}
+
+	/**
+	 * 선분과 교차하는 커스텀 엔티티를 교차점과 함께 모두 전달합니다.
+	 *
+	 * @param start       시작 위치
+	 * @param direction   방향
+	 * @param maxDistance 최대 거리
+	 * @param raySize     엔티티의 바운딩 박스를 확장할 크기
+	 */
+	public void forEachOnRay(final @NotNull World world, final @NotNull Vector start, final @NotNull Vector direction, final double maxDistance, final double raySize, final @NotNull BiConsumer<? super CustomEntity, Vector> consumer) {
+		final Vector end = direction.clone().normalize().multiply(maxDistance).add(start);
+		forEach(world,
+				toChunk(Math.min(start.getX(), end.getX()) - raySize), toChunk(Math.min(start.getZ(), end.getZ()) - raySize),
+				toChunk(Math.max(start.getX(), end.getX()) + raySize), toChunk(Math.max(start.getZ(), end.getZ()) + raySize),
+				entity -> {
+					final BoundingBox boundingBox = raySize != 0 ? entity.getBoundingBox().copy().expand(raySize) : entity.getBoundingBox();
+					final Vector hitPosition = boundingBox.rayTrace(start, direction, maxDistance);
+					if (hitPosition != null) {
+						consumer.accept(entity, hitPosition);
+					}
+				}
+		);
+	}
+
+	static final class Bucket {
+
+		private final UUID world;
+		private final long key;
+		private CustomEntity[] entities = new CustomEntity[4];
+		private int size = 0;
+
+		private Bucket(final UUID world, final long key) {
+			this.world = world;
+			this.key = key;
+		}
+
+		private void add(final CustomEntity entity) {
+			if (size == entities.length) {
+				this.entities = Arrays.copyOf(entities, size << 1);
+			}
+			entity.bucket = this;
+			entity.bucketIndex = size;
+			entities[size++] = entity;
+		}
+
+		private void remove(final CustomEntity entity) {
+			final int index = entity.bucketIndex, last = --size;
+			if (index != last) {
+				final CustomEntity moved = entities[last];
+				entities[index] = moved;
+				moved.bucketIndex = index;
+			}
+			entities[last] = null;
+			entity.bucket = null;
+		}
+
+		/**
+		 * 뒤에서부터 순회하므로 전달받은 엔티티가 제거되거나, 새 엔티티가 추가되어도 순회가 깨지지 않습니다.
+		 */
+		private void forEach(final Consumer<? super CustomEntity> consumer) {
+			for (int i = size - 1; i >= 0; i = Math.min(i, size) - 1) {
+				consumer.accept(entities[i]);
+			}
+		}
+
+	}
+
+}
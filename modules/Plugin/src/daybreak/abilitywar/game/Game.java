@@ -159,6 +159,16 @@ public abstract class Game extends AbstractGame implements AbilitySelect.Handler
 
 			private List<Class<? extends AbilityBase>> abilities;
 
+			/**
+			 * 마지막 능력을 index 위치로 옮긴 후 마지막 능력을 제거합니다.
+			 * 남은 능력의 순서는 추첨에 영향을 주지 않으므로, 뒤의 원소를 모두 당기지 않고 O(1)에 제거합니다.
+			 */
+			private void removeAt(final int index) {
+				final int last = abilities.size() - 1;
+				abilities.set(index, abilities.get(last));
+				abilities.remove(last);
+			}
+
 			@Override
 			protected void drawAbility(Collection<? extends Participant> selectors) {
 				abilities = AbilityCollector.EVERY_ABILITY_EXCLUDING_BLACKLISTED.collect(Game.this.getClass());
@@ -166,11 +176,12 @@ public abstract class Game extends AbstractGame implements AbilitySelect.Handler
 					Random random = new Random();
 
 					for (Participant participant : selectors) {
-						Class<? extends AbilityBase> abilityClass = abilities.get(random.nextInt(abilities.size()));
+						final int index = random.nextInt(abilities.size());
+						Class<? extends AbilityBase> abilityClass = abilities.get(index);
 						try {
 							participant.setAbility(abilityClass);
 							final AbilityBase ability = participant.getAbility();
-							abilities.remove(abilityClass);
+							removeAt(index);
 
 							final Player player = participant.getPlayer();
 							player.sendMessage("§a능력이 할당되었습니다. §e/aw check§f로 확인하세요.");
@@ -229,10 +240,10 @@ public abstract class Game extends AbstractGame implements AbilitySelect.Handler
 
 					if (participant.hasAbility()) {
 						Class<? extends AbilityBase> oldAbilityClass = participant.getAbility().getClass();
-						Class<? extends AbilityBase> abilityClass = abilities.get(random.nextInt(abilities.size()));
+						final int index = random.nextInt(abilities.size());
+						Class<? extends AbilityBase> abilityClass = abilities.get(index);
 						try {
-							abilities.remove(abilityClass);
-							abilities.add(oldAbilityClass);
+							abilities.set(index, oldAbilityClass);
 
 							participant.setAbility(abilityClass);
 
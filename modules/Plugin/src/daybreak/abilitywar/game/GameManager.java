@@ -9,6 +9,7 @@ import daybreak.abilitywar.game.manager.GameFactory.GameRegistration;
 import daybreak.abilitywar.game.manager.GameFactory.GameRegistration.Flag;
 import daybreak.abilitywar.game.manager.GameFactory.GeneralRegistration;
 import daybreak.abilitywar.game.manager.GameFactory.TeamGameRegistration;
+import daybreak.abilitywar.utils.base.minecraft.WorldReset;
 
 import java.lang.reflect.InvocationTargetException;
 
@@ -29,6 +30,9 @@ public class GameManager {
 	}
 
 	public static boolean startGame(final GameRegistration<?> registration, final String[] args) throws IllegalArgumentException {
+		if (WorldReset.isResetting()) {
+			throw new IllegalArgumentException("월드 초기화가 진행 중입니다. (" + String.join(", ", WorldReset.getResettingWorlds()) + ") 초기화가 끝난 뒤 다시 시도하세요.");
+		}
 		try {
 			if (registration != null) {
 				if (registration.hasFlag(Flag.TEAM_GAME_SUPPORTED) && Settings.isTeamGameEnabled() && registration instanceof GeneralRegistration) {
@@ -86,8 +86,8 @@ public class BlindAbilityWar extends Game implements DefaultKitHandler, Winnable
 				@Override
 				protected void run(int count) {
 					final String title = chatColors[random.nextInt(chatColors.length)] + participants.get(random.nextInt(participants.size())).getPlayer().getName();
+					NMS.broadcastTitle(Bukkit.getOnlinePlayers(), title, "", 0, 6, 0);
 					for (Player onlinePlayer : Bukkit.getOnlinePlayers()) {
-						NMS.sendTitle(onlinePlayer, title, "", 0, 6, 0);
 						SoundLib.PIANO.playInstrument(onlinePlayer, C);
 						SoundLib.PIANO.playInstrument(onlinePlayer, E);
 					}
@@ -97,16 +97,14 @@ public class BlindAbilityWar extends Game implements DefaultKitHandler, Winnable
 				protected void onEnd() {
 					final Participant target = participants.get(random.nextInt(participants.size()));
 					final String title = "§e" + target.getPlayer().getName();
-					for (Player onlinePlayer : Bukkit.getOnlinePlayers()) {
-						NMS.sendTitle(onlinePlayer, title, "", 0, 40, 0);
-					}
+					NMS.broadcastTitle(Bukkit.getOnlinePlayers(), title, "", 0, 40, 0);
 					final Roulette[] roulettes = Roulette.values();
 					new GameTimer(TaskType.NORMAL, 15) {
 						@Override
 						protected void run(int count) {
 							final String subtitle = chatColors[random.nextInt(chatColors.length)] + roulettes[random.nextInt(roulettes.length)].getDisplayName(participants.get(random.nextInt(participants.size())));
+							NMS.broadcastTitle(Bukkit.getOnlinePlayers(), title, subtitle, 0, 6, 0);
 							for (Player onlinePlayer : Bukkit.getOnlinePlayers()) {
-								NMS.sendTitle(onlinePlayer, title, subtitle, 0, 6, 0);
 								SoundLib.PIANO.playInstrument(onlinePlayer, C);
 								SoundLib.PIANO.playInstrument(onlinePlayer, E);
 							}
@@ -117,18 +115,14 @@ public class BlindAbilityWar extends Game implements DefaultKitHandler, Winnable
 							final Roulette roulette = roulettes[random.nextInt(roulettes.length)];
 							final Participant castingTarget = participants.get(random.nextInt(participants.size()));
 							final String subtitle = ChatColor.GOLD + roulette.getDisplayName(castingTarget);
-							for (Player onlinePlayer : Bukkit.getOnlinePlayers()) {
-								NMS.sendTitle(onlinePlayer, title, subtitle, 0, 5, 0);
-							}
+							NMS.broadcastTitle(Bukkit.getOnlinePlayers(), title, subtitle, 0, 5, 0);
 							new GameTimer(TaskType.NORMAL, 5) {
 								ChatColor first = ChatColor.GOLD;
 								ChatColor second = ChatColor.RED;
 
 								@Override
 								protected void run(int count) {
-									for (Player onlinePlayer : Bukkit.getOnlinePlayers()) {
-										NMS.sendTitle(onlinePlayer, first + target.getPlayer().getName(), second + roulette.getDisplayName(castingTarget), 0, 11, 0);
-									}
+									NMS.broadcastTitle(Bukkit.getOnlinePlayers(), first + target.getPlayer().getName(), second + roulette.getDisplayName(castingTarget), 0, 11, 0);
 									if (first == ChatColor.GOLD) {
 										this.first = ChatColor.RED;
 										this.second = ChatColor.GOLD;
@@ -140,9 +134,7 @@ public class BlindAbilityWar extends Game implements DefaultKitHandler, Winnable
 
 								@Override
 								protected void onEnd() {
-									for (Player onlinePlayer : Bukkit.getOnlinePlayers()) {
-										NMS.clearTitle(onlinePlayer);
-									}
+									NMS.broadcastClearTitle(Bukkit.getOnlinePlayers());
 									roulette.apply(target, castingTarget);
 								}
 							}.setPeriod(TimeUnit.TICKS, 10).start();
@@ -154,16 +146,12 @@ public class BlindAbilityWar extends Game implements DefaultKitHandler, Winnable
 
 		@Override
 		protected void onEnd() {
-			for (Player onlinePlayer : Bukkit.getOnlinePlayers()) {
-				NMS.clearTitle(onlinePlayer);
-			}
+			NMS.broadcastClearTitle(Bukkit.getOnlinePlayers());
 		}
 
 		@Override
 		protected void onSilentEnd() {
-			for (Player onlinePlayer : Bukkit.getOnlinePlayers()) {
-				NMS.clearTitle(onlinePlayer);
-			}
+			NMS.broadcastClearTitle(Bukkit.getOnlinePlayers());
 		}
 	}.setInitialDelay(TimeUnit.SECONDS, 15).setPeriod(TimeUnit.SECONDS, 30);
 
@@ -191,7 +191,7 @@ public class LiteAbilities {
 	 */
 	public static void registerAbility(String className) {
 		try {
-			registerAbility(ReflectionUtil.ClassUtil.forName(className).asSubclass(AbilityBase.class));
+			registerAbility(ReflectionUtil.ClassUtil.forName(className, false).asSubclass(AbilityBase.class));
 		} catch (ClassNotFoundException e) {
 			logger.debug(e.getMessage() != null && !e.getMessage().isEmpty() ? e.getMessage() : ("§e" + className + " §f클래스는 존재하지 않습니다."));
 		} catch (ClassCastException e) {
@@ -93,6 +93,8 @@ public class MixAbilityGUI implements Listener, Observer {
 		for (Entry<String, AbilityRegistration> entry : values.entrySet()) {
 			if (count / 36 == page - 1) {
 				AbilityRegistration registration = entry.getValue();
+				// 설명은 비동기로 만들어지므로, 능력 클래스의 초기화와 설정 등록은 메인 스레드에서 먼저 수행합니다.
+				registration.getSettingObjects();
 				AbilityManifest manifest = registration.getManifest();
 				ItemStack stack = MaterialX.LIGHT_BLUE_STAINED_GLASS.createItem();
 				ItemMeta meta = stack.getItemMeta();
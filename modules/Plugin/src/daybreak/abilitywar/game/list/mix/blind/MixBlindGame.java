@@ -91,8 +91,8 @@ public class MixBlindGame extends AbstractMix implements Winnable, Observer {
 				@Override
 				protected void run(int count) {
 					final String title = random.pick(chatColors) + random.pick(participants).getPlayer().getName();
+					NMS.broadcastTitle(Bukkit.getOnlinePlayers(), title, "", 0, 6, 0);
 					for (Player onlinePlayer : Bukkit.getOnlinePlayers()) {
-						NMS.sendTitle(onlinePlayer, title, "", 0, 6, 0);
 						SoundLib.PIANO.playInstrument(onlinePlayer, C);
 						SoundLib.PIANO.playInstrument(onlinePlayer, E);
 					}
@@ -102,16 +102,14 @@ public class MixBlindGame extends AbstractMix implements Winnable, Observer {
 				protected void onEnd() {
 					final MixParticipant target = random.pick(participants);
 					final String title = "§e" + target.getPlayer().getName();
-					for (Player onlinePlayer : Bukkit.getOnlinePlayers()) {
-						NMS.sendTitle(onlinePlayer, title, "", 0, 40, 0);
-					}
+					NMS.broadcastTitle(Bukkit.getOnlinePlayers(), title, "", 0, 40, 0);
 					final Roulette[] roulettes = Roulette.values();
 					new GameTimer(TaskType.NORMAL, 15) {
 						@Override
 						protected void run(int count) {
 							final String subtitle = random.pick(chatColors) + random.pick(roulettes).getDisplayName(random.pick(participants));
+							NMS.broadcastTitle(Bukkit.getOnlinePlayers(), title, subtitle, 0, 6, 0);
 							for (Player onlinePlayer : Bukkit.getOnlinePlayers()) {
-								NMS.sendTitle(onlinePlayer, title, subtitle, 0, 6, 0);
 								SoundLib.PIANO.playInstrument(onlinePlayer, C);
 								SoundLib.PIANO.playInstrument(onlinePlayer, E);
 							}
@@ -122,18 +120,14 @@ public class MixBlindGame extends AbstractMix implements Winnable, Observer {
 							final Roulette roulette = random.pick(roulettes);
 							final MixParticipant castingTarget = random.pick(participants);
 							final String subtitle = ChatColor.GOLD + roulette.getDisplayName(castingTarget);
-							for (Player onlinePlayer : Bukkit.getOnlinePlayers()) {
-								NMS.sendTitle(onlinePlayer, title, subtitle, 0, 5, 0);
-							}
+							NMS.broadcastTitle(Bukkit.getOnlinePlayers(), title, subtitle, 0, 5, 0);
 							new GameTimer(TaskType.NORMAL, 5) {
 								ChatColor first = ChatColor.GOLD;
 								ChatColor second = ChatColor.RED;
 
 								@Override
 								protected void run(int count) {
-									for (Player onlinePlayer : Bukkit.getOnlinePlayers()) {
-										NMS.sendTitle(onlinePlayer, first + target.getPlayer().getName(), second + roulette.getDisplayName(castingTarget), 0, 11, 0);
-									}
+									NMS.broadcastTitle(Bukkit.getOnlinePlayers(), first + target.getPlayer().getName(), second + roulette.getDisplayName(castingTarget), 0, 11, 0);
 									if (first == ChatColor.GOLD) {
 										this.first = ChatColor.RED;
 										this.second = ChatColor.GOLD;
@@ -145,9 +139,7 @@ public class MixBlindGame extends AbstractMix implements Winnable, Observer {
 
 								@Override
 								protected void onEnd() {
-									for (Player onlinePlayer : Bukkit.getOnlinePlayers()) {
-										NMS.clearTitle(onlinePlayer);
-									}
+									NMS.broadcastClearTitle(Bukkit.getOnlinePlayers());
 									roulette.apply(target, castingTarget);
 								}
 							}.setPeriod(TimeUnit.TICKS, 10).start();
@@ -159,16 +151,12 @@ public class MixBlindGame extends AbstractMix implements Winnable, Observer {
 
 		@Override
 		protected void onEnd() {
-			for (Player onlinePlayer : Bukkit.getOnlinePlayers()) {
-				NMS.clearTitle(onlinePlayer);
-			}
+			NMS.broadcastClearTitle(Bukkit.getOnlinePlayers());
 		}
 
 		@Override
 		protected void onSilentEnd() {
-			for (Player onlinePlayer : Bukkit.getOnlinePlayers()) {
-				NMS.clearTitle(onlinePlayer);
-			}
+			NMS.broadcastClearTitle(Bukkit.getOnlinePlayers());
 		}
 	}.setInitialDelay(TimeUnit.SECONDS, 15).setPeriod(TimeUnit.SECONDS, 30);
 
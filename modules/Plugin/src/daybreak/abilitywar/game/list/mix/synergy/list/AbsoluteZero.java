@@ -14,13 +14,11 @@ import daybreak.abilitywar.game.team.interfaces.Teamable;
 import daybreak.abilitywar.utils.base.Formatter;
 import daybreak.abilitywar.utils.base.concurrent.TimeUnit;
 import daybreak.abilitywar.utils.base.math.LocationUtil;
+import daybreak.abilitywar.utils.base.minecraft.BlockWriter;
 import daybreak.abilitywar.utils.base.minecraft.FallingBlocks;
 import daybreak.abilitywar.utils.base.minecraft.FallingBlocks.Behavior;
-import daybreak.abilitywar.utils.base.minecraft.block.Blocks;
-import daybreak.abilitywar.utils.base.minecraft.block.IBlockSnapshot;
 import daybreak.abilitywar.utils.base.minecraft.boundary.BoundingBox;
 import daybreak.abilitywar.utils.base.minecraft.boundary.EntityBoundingBox;
-import daybreak.abilitywar.utils.library.BlockX;
 import daybreak.abilitywar.utils.library.MaterialX;
 import daybreak.abilitywar.utils.library.PotionEffects;
 import org.bukkit.Location;
@@ -38,11 +36,8 @@ import org.bukkit.event.entity.ProjectileHitEvent;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -110,8 +105,7 @@ public class AbsoluteZero extends Synergy implements ActiveHandler {
 
 	}.setPeriod(TimeUnit.TICKS, 1).register();
 
-	private final Map<Block, IBlockSnapshot> blockData = new HashMap<>();
-
+	private final BlockWriter writer = new BlockWriter();
 	private final int range = RangeConfig.getValue();
 	private final AbilityTimer iceMaker = new AbilityTimer(range) {
 
@@ -128,27 +122,27 @@ public class AbsoluteZero extends Synergy implements ActiveHandler {
 		public void run(int sec) {
 			Location playerLocation = getPlayer().getLocation();
 			World world = getPlayer().getWorld();
-			for (Block block : LocationUtil.getBlocks2D(center, count, true, false, true)) {
-				block = world.getBlockAt(block.getX(), LocationUtil.getFloorYAt(world, playerLocation.getY(), block.getX(), block.getZ()), block.getZ());
+			LocationUtil.forEachBlock2D(center, count, true, false, true, flat -> {
+				final Block block = world.getBlockAt(flat.getX(), LocationUtil.getFloorYAt(world, playerLocation.getY(), flat.getX(), flat.getZ()), flat.getZ());
 				Block belowBlock = block.getRelative(BlockFace.DOWN);
 				Material type = belowBlock.getType();
 				if (type == Material.WATER) {
-					blockData.putIfAbsent(belowBlock, Blocks.createSnapshot(belowBlock));
-					belowBlock.setType(Material.PACKED_ICE);
+					getGame().getBlockJournal().record(AbsoluteZero.this, belowBlock);
+					writer.setType(belowBlock, Material.PACKED_ICE);
 				} else if (type == Material.LAVA) {
-					blockData.putIfAbsent(belowBlock, Blocks.createSnapshot(belowBlock));
-					belowBlock.setType(Material.OBSIDIAN);
+					getGame().getBlockJournal().record(AbsoluteZero.this, belowBlock);
+					writer.setType(belowBlock, Material.OBSIDIAN);
 				} else if (MaterialX.ACACIA_LEAVES.compare(belowBlock) || MaterialX.BIRCH_LEAVES.compare(belowBlock) || MaterialX.DARK_OAK_LEAVES.compare(belowBlock)
 						|| MaterialX.JUNGLE_LEAVES.compare(belowBlock) || MaterialX.OAK_LEAVES.compare(belowBlock) || MaterialX.SPRUCE_LEAVES.compare(belowBlock)) {
-					BlockX.setType(belowBlock, MaterialX.GREEN_WOOL);
+					writer.setType(belowBlock, MaterialX.GREEN_WOOL);
 				} else {
-					blockData.putIfAbsent(belowBlock, Blocks.createSnapshot(belowBlock));
-					belowBlock.setType(Material.SNOW_BLOCK);
+					getGame().getBlockJournal().record(AbsoluteZero.this, belowBlock);
+					writer.setType(belowBlock, Material.SNOW_BLOCK);
 				}
 
-				blockData.putIfAbsent(block, Blocks.createSnapshot(block));
-				block.setType(Material.SNOW);
-			}
+				getGame().getBlockJournal().record(AbsoluteZero.this, block);
+				writer.setType(block, Material.SNOW);
+			});
 			count++;
 		}
 
@@ -220,12 +214,11 @@ public class AbsoluteZero extends Synergy implements ActiveHandler {
 			buff.start();
 			passive.start();
 		} else if (update == Update.ABILITY_DESTROY) {
-			for (Entry<Block, IBlockSnapshot> entry : blockData.entrySet()) {
-				Block key = entry.getKey();
-				if (key.getType() == Material.PACKED_ICE || key.getType() == Material.OBSIDIAN || key.getType() == Material.SNOW_BLOCK || key.getType() == Material.SNOW) {
-					entry.getValue().apply();
-				}
-			}
+			writer.clear();
+			getGame().getBlockJournal().release(this, block -> {
+				final Material type = block.getType();
+				return type == Material.PACKED_ICE || type == Material.OBSIDIAN || type == Material.SNOW_BLOCK || type == Material.SNOW;
+			});
 		}
 	}
 
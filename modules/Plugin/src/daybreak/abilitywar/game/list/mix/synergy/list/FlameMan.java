@@ -12,9 +12,7 @@ import daybreak.abilitywar.utils.annotations.Beta;
 import daybreak.abilitywar.utils.base.Formatter;
 import daybreak.abilitywar.utils.base.concurrent.TimeUnit;
 import daybreak.abilitywar.utils.base.math.LocationUtil;
-import daybreak.abilitywar.utils.base.minecraft.block.Blocks;
-import daybreak.abilitywar.utils.base.minecraft.block.IBlockSnapshot;
-import daybreak.abilitywar.utils.library.BlockX;
+import daybreak.abilitywar.utils.base.minecraft.BlockWriter;
 import daybreak.abilitywar.utils.library.MaterialX;
 import daybreak.abilitywar.utils.library.PotionEffects;
 import org.bukkit.Location;
@@ -28,10 +26,7 @@ import org.bukkit.event.entity.EntityDamageEvent.DamageCause;
 import org.bukkit.event.player.PlayerMoveEvent;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.HashMap;
 import java.util.LinkedList;
-import java.util.Map;
-import java.util.Map.Entry;
 
 @AbilityManifest(name = "염인", rank = Rank.S, species = Species.HUMAN, explain = {
 		"마그마와 용암 위에서 §6힘§f, §3저항 §f버프를 받습니다.",
@@ -81,7 +76,7 @@ public class FlameMan extends Synergy implements ActiveHandler {
 			}
 		}
 	}.setPeriod(TimeUnit.TICKS, 1).register();
-	private final Map<Block, IBlockSnapshot> blockData = new HashMap<>();
+	private final BlockWriter writer = new BlockWriter();
 	private final AbilityTimer terrain = new AbilityTimer(RangeConfig.getValue()) {
 
 		private int count;
@@ -97,18 +92,18 @@ public class FlameMan extends Synergy implements ActiveHandler {
 		public void run(int sec) {
 			Location playerLocation = getPlayer().getLocation();
 			World world = getPlayer().getWorld();
-			for (Block block : LocationUtil.getBlocks2D(center, count, true, false, true)) {
-				block = world.getBlockAt(block.getX(), LocationUtil.getFloorYAt(world, playerLocation.getY(), block.getX(), block.getZ()), block.getZ());
+			LocationUtil.forEachBlock2D(center, count, true, false, true, flat -> {
+				final Block block = world.getBlockAt(flat.getX(), LocationUtil.getFloorYAt(world, playerLocation.getY(), flat.getX(), flat.getZ()), flat.getZ());
 				Block belowBlock = block.getRelative(BlockFace.DOWN);
 				Material type = belowBlock.getType();
 				if (type == Material.WATER) {
-					blockData.putIfAbsent(belowBlock, Blocks.createSnapshot(belowBlock));
-					belowBlock.setType(Material.LAVA);
+					getGame().getBlockJournal().record(FlameMan.this, belowBlock);
+					writer.setType(belowBlock, Material.LAVA);
 				} else {
-					blockData.putIfAbsent(belowBlock, Blocks.createSnapshot(belowBlock));
-					BlockX.setType(belowBlock, MaterialX.MAGMA_BLOCK);
+					getGame().getBlockJournal().record(FlameMan.this, belowBlock);
+					writer.setType(belowBlock, MaterialX.MAGMA_BLOCK);
 				}
-			}
+			});
 			count++;
 		}
 	}.setPeriod(TimeUnit.TICKS, 1).register();
@@ -161,12 +156,8 @@ public class FlameMan extends Synergy implements ActiveHandler {
 			speed.start();
 			buff.start();
 		} else if (update == Update.ABILITY_DESTROY) {
-			for (Entry<Block, IBlockSnapshot> entry : blockData.entrySet()) {
-				Block key = entry.getKey();
-				if (MaterialX.MAGMA_BLOCK.compare(key) || key.getType() == Material.LAVA || MaterialX.LAVA.compare(key) || key.getType() == Material.FIRE) {
-					entry.getValue().apply();
-				}
-			}
+			writer.clear();
+			getGame().getBlockJournal().release(this, block -> MaterialX.MAGMA_BLOCK.compare(block) || block.getType() == Material.LAVA || MaterialX.LAVA.compare(block) || block.getType() == Material.FIRE);
 			for (Block block : blocks) {
 				if (block.getType() == Material.FIRE) block.setType(Material.AIR);
 			}
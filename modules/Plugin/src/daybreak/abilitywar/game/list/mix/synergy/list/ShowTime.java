@@ -21,8 +21,6 @@ import daybreak.abilitywar.utils.base.math.NumberUtil;
 import daybreak.abilitywar.utils.base.math.geometry.Circle;
 import daybreak.abilitywar.utils.base.math.geometry.Line;
 import daybreak.abilitywar.utils.base.minecraft.FireworkUtil;
-import daybreak.abilitywar.utils.base.minecraft.block.Blocks;
-import daybreak.abilitywar.utils.base.minecraft.block.IBlockSnapshot;
 import daybreak.abilitywar.utils.base.minecraft.nms.NMS;
 import daybreak.abilitywar.utils.library.BlockX;
 import daybreak.abilitywar.utils.library.MaterialX;
@@ -114,7 +112,6 @@ public class ShowTime extends Synergy implements ActiveHandler {
 			Type.BALL_LARGE, Type.STAR
 	};
 	private static final int radius = 7;
-	private final Map<Block, IBlockSnapshot> carpets = new HashMap<>();
 	private final Cooldown cooldownTimer = new Cooldown(COOLDOWN_CONFIG.getValue(), CooldownDecrease._50);
 	private final Duration skillTimer = new Duration(DURATION_CONFIG.getValue() * 20, cooldownTimer) {
 		@Override
@@ -147,8 +144,8 @@ public class ShowTime extends Synergy implements ActiveHandler {
 									LocationUtil.getFloorYAt(world, playerLocation.getY(), location.getBlockX(), location.getBlockZ()),
 									location.getBlockZ()
 							);
-							if (!carpets.containsKey(block)) {
-								carpets.put(block, Blocks.createSnapshot(block));
+							if (!getGame().getBlockJournal().isRecorded(ShowTime.this, block)) {
+								getGame().getBlockJournal().record(ShowTime.this, block);
 								BlockX.setType(block, MaterialX.RED_CARPET);
 							}
 						}
@@ -160,7 +157,7 @@ public class ShowTime extends Synergy implements ActiveHandler {
 		@Override
 		protected void onDurationProcess(int seconds) {
 			Block block = getPlayer().getLocation().getBlock();
-			if (carpets.containsKey(block) || carpets.containsKey(block.getRelative(BlockFace.DOWN))) {
+			if (getGame().getBlockJournal().isRecorded(ShowTime.this, block) || getGame().getBlockJournal().isRecorded(ShowTime.this, block.getRelative(BlockFace.DOWN))) {
 				for (LivingEntity entity : LocationUtil.getNearbyEntities(LivingEntity.class, getPlayer().getLocation(), 35, 35, predicate)) {
 					if (getPlayer().equals(entity)) continue;
 					for (Player player : Bukkit.getOnlinePlayers()) {
@@ -173,18 +170,12 @@ public class ShowTime extends Synergy implements ActiveHandler {
 
 		@Override
 		protected void onDurationEnd() {
-			for (IBlockSnapshot snapshot : carpets.values()) {
-				snapshot.apply();
-			}
-			carpets.clear();
+			getGame().getBlockJournal().release(ShowTime.this);
 		}
 
 		@Override
 		protected void onDurationSilentEnd() {
-			for (IBlockSnapshot snapshot : carpets.values()) {
-				snapshot.apply();
-			}
-			carpets.clear();
+			getGame().getBlockJournal().release(ShowTime.this);
 		}
 	}.setPeriod(TimeUnit.TICKS, 1);
 	private final RGB WEAK = new RGB(214, 255, 212);
@@ -12,14 +12,9 @@ import daybreak.abilitywar.game.manager.effect.registry.EffectType;
 import daybreak.abilitywar.utils.base.concurrent.TimeUnit;
 import daybreak.abilitywar.utils.base.math.LocationUtil;
 import daybreak.abilitywar.utils.base.minecraft.nms.NMS;
-import daybreak.abilitywar.utils.base.minecraft.version.NMSVersion;
-import daybreak.abilitywar.utils.base.minecraft.version.ServerVersion;
 import daybreak.abilitywar.utils.library.PotionEffects;
 import org.bukkit.Bukkit;
-import org.bukkit.Location;
-import org.bukkit.entity.ArmorStand;
 import org.bukkit.entity.Entity;
-import org.bukkit.entity.Player;
 import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
 import org.bukkit.util.Vector;
@@ -38,29 +33,20 @@ public class Fear extends AbstractGame.Effect implements Listener {
 	}
 
 	private final Participant participant;
-	private final ArmorStand hologram;
+	private StatusIndicator indicator = null;
 	private final Entity from;
-	private int stack = 0;
-	private boolean direction = true;
 
 	@EffectConstructor(name = "default")
 	public Fear(Participant participant, TimeUnit timeUnit, int duration, Entity from) {
 		participant.getGame().super(registration, participant, timeUnit.toTicks(duration));
 		this.participant = participant;
-		final Player player = participant.getPlayer();
-		this.hologram = player.getWorld().spawn(player.getLocation(), ArmorStand.class);
-		hologram.setVisible(false);
-		hologram.setGravity(false);
-		hologram.setInvulnerable(true);
-		NMS.removeBoundingBox(hologram);
-		hologram.setCustomNameVisible(true);
-		hologram.setCustomName("§b공포");
 		this.from = from;
 		setPeriod(TimeUnit.TICKS, 1);
 	}
 
 	@Override
 	protected void onStart() {
+		this.indicator = StatusIndicator.show(participant.getPlayer(), "§b공포", StatusIndicator.ENTITY_HEIGHT);
 		Bukkit.getPluginManager().registerEvents(this, AbilityWar.getPlugin());
 	}
 
@@ -71,15 +57,6 @@ public class Fear extends AbstractGame.Effect implements Listener {
 	@Override
 	protected void run(int count) {
 		super.run(count);
-		if (hologram.isValid()) {
-			if (direction) stack++;
-			else stack--;
-			if (stack <= 0 || stack >= 30) {
-				this.direction = !direction;
-			}
-			final Location location = participant.getPlayer().getLocation().clone().add(0, (ServerVersion.isAboveOrEqual(NMSVersion.v1_17_R1) ? 4 : 2) + (stack * 0.008), 0);
-			hologram.teleport(location);
-		}
 		final Vector direction = createDirection();
 		NMS.rotateHead(participant.getPlayer(), participant.getPlayer(), LocationUtil.getYaw(direction), LocationUtil.getPitch(direction));
 		PotionEffects.BLINDNESS.addPotionEffect(participant.getPlayer(), 2, 1, true);
@@ -87,14 +64,14 @@ public class Fear extends AbstractGame.Effect implements Listener {
 
 	@Override
 	protected void onEnd() {
-		hologram.remove();
+		if (indicator != null) indicator.remove();
 		HandlerList.unregisterAll(this);
 		super.onEnd();
 	}
 
 	@Override
 	protected void onSilentEnd() {
-		hologram.remove();
+		if (indicator != null) indicator.remove();
 		HandlerList.unregisterAll(this);
 		super.onSilentEnd();
 	}
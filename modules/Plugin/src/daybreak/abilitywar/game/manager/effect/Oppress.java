@@ -9,12 +9,6 @@ import daybreak.abilitywar.game.manager.effect.registry.EffectRegistry;
 import daybreak.abilitywar.game.manager.effect.registry.EffectRegistry.EffectRegistration;
 import daybreak.abilitywar.game.manager.effect.registry.EffectType;
 import daybreak.abilitywar.utils.base.concurrent.TimeUnit;
-import daybreak.abilitywar.utils.base.minecraft.nms.NMS;
-import daybreak.abilitywar.utils.base.minecraft.version.NMSVersion;
-import daybreak.abilitywar.utils.base.minecraft.version.ServerVersion;
-import org.bukkit.Location;
-import org.bukkit.entity.ArmorStand;
-import org.bukkit.entity.Player;
 import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
 
@@ -32,26 +26,17 @@ public class Oppress extends AbstractGame.Effect implements Listener {
 	}
 
 	private final Participant participant;
-	private final ArmorStand hologram;
-	private int stack = 0;
-	private boolean direction = true;
+	private StatusIndicator indicator = null;
 
 	public Oppress(Participant participant, TimeUnit timeUnit, int duration) {
 		participant.getGame().super(registration, participant, timeUnit.toTicks(duration));
 		this.participant = participant;
-		final Player player = participant.getPlayer();
-		this.hologram = player.getWorld().spawn(player.getLocation(), ArmorStand.class);
-		hologram.setVisible(false);
-		hologram.setGravity(false);
-		hologram.setInvulnerable(true);
-		NMS.removeBoundingBox(hologram);
-		hologram.setCustomNameVisible(true);
-		hologram.setCustomName("§c제압됨");
 		setPeriod(TimeUnit.TICKS, 1);
 	}
 
 	@Override
 	protected void onStart() {
+		this.indicator = StatusIndicator.show(participant.getPlayer(), "§c제압됨", StatusIndicator.ENTITY_HEIGHT);
 		restrict(true);
 	}
 
@@ -63,21 +48,12 @@ public class Oppress extends AbstractGame.Effect implements Listener {
 	@Override
 	protected void run(int count) {
 		super.run(count);
-		if (hologram.isValid()) {
-			if (direction) stack++;
-			else stack--;
-			if (stack <= 0 || stack >= 30) {
-				this.direction = !direction;
-			}
-			final Location location = participant.getPlayer().getLocation().clone().add(0, (ServerVersion.isAboveOrEqual(NMSVersion.v1_17_R1) ? 4 : 2) + (stack * 0.008), 0);
-			hologram.teleport(location);
-		}
 		restrict(true);
 	}
 
 	@Override
 	protected void onEnd() {
-		hologram.remove();
+		if (indicator != null) indicator.remove();
 		HandlerList.unregisterAll(this);
 		restrict(false);
 		super.onEnd();
@@ -85,7 +61,7 @@ public class Oppress extends AbstractGame.Effect implements Listener {
 
 	@Override
 	protected void onSilentEnd() {
-		hologram.remove();
+		if (indicator != null) indicator.remove();
 		HandlerList.unregisterAll(this);
 		restrict(false);
 		super.onSilentEnd();
@@ -1,6 +1,5 @@
 package daybreak.abilitywar.game.manager.effect;
 
-import daybreak.abilitywar.AbilityWar;
 import daybreak.abilitywar.game.AbstractGame;
 import daybreak.abilitywar.game.AbstractGame.Participant;
 import daybreak.abilitywar.game.manager.effect.registry.ApplicationMethod;
@@ -8,23 +7,17 @@ import daybreak.abilitywar.game.manager.effect.registry.EffectManifest;
 import daybreak.abilitywar.game.manager.effect.registry.EffectRegistry;
 import daybreak.abilitywar.game.manager.effect.registry.EffectRegistry.EffectRegistration;
 import daybreak.abilitywar.game.manager.effect.registry.EffectType;
+import daybreak.abilitywar.game.manager.effect.registry.MovementRestriction;
 import daybreak.abilitywar.utils.base.concurrent.TimeUnit;
-import daybreak.abilitywar.utils.base.minecraft.nms.NMS;
-import org.bukkit.Bukkit;
-import org.bukkit.Location;
-import org.bukkit.entity.ArmorStand;
-import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
-import org.bukkit.event.player.PlayerMoveEvent;
 
 @EffectManifest(name = "이동 불가", displayName = "§a이동 불가", method = ApplicationMethod.UNIQUE_LONGEST, type = {
 		EffectType.MOVEMENT_RESTRICTION
+}, movement = {
+		MovementRestriction.HORIZONTAL, MovementRestriction.VERTICAL
 }, description = {
 		"이동이 불가능해지나, 시야 전환은 가능합니다."
 })
-public class Rooted extends AbstractGame.Effect implements Listener {
+public class Rooted extends AbstractGame.Effect {
 
 	public static final EffectRegistration<Rooted> registration = EffectRegistry.registerEffect(Rooted.class);
 
@@ -33,64 +26,28 @@ public class Rooted extends AbstractGame.Effect implements Listener {
 	}
 
 	private final Participant participant;
-	private final ArmorStand hologram;
-	private int stack = 0;
-	private boolean direction = true;
+	private StatusIndicator indicator = null;
 
 	public Rooted(Participant participant, TimeUnit timeUnit, int duration) {
 		participant.getGame().super(registration, participant, timeUnit.toTicks(duration));
 		this.participant = participant;
-		final Player player = participant.getPlayer();
-		this.hologram = player.getWorld().spawn(player.getLocation(), ArmorStand.class);
-		hologram.setVisible(false);
-		hologram.setGravity(false);
-		hologram.setInvulnerable(true);
-		NMS.removeBoundingBox(hologram);
-		hologram.setCustomNameVisible(true);
-		hologram.setCustomName("§a이동 불가!");
 		setPeriod(TimeUnit.TICKS, 1);
 	}
 
 	@Override
 	protected void onStart() {
-		Bukkit.getPluginManager().registerEvents(this, AbilityWar.getPlugin());
-	}
-
-	@EventHandler
-	private void onPlayerMove(final PlayerMoveEvent e) {
-		if (e.getPlayer().getUniqueId().equals(participant.getPlayer().getUniqueId())) {
-			final Location from = e.getFrom(), to = e.getTo();
-			if (to != null) {
-				to.setX(from.getX());
-				to.setY(from.getY());
-				to.setZ(from.getZ());
-			}
-		}
-	}
-
-	@Override
-	protected void run(int count) {
-		super.run(count);
-		if (hologram.isValid()) {
-			if (++stack > 30) {
-				this.direction = !direction;
-				this.stack = 0;
-			}
-			hologram.teleport(participant.getPlayer().getLocation().clone().add(0, 2.2 + (stack * 0.008), 0));
-		}
+		this.indicator = StatusIndicator.show(participant.getPlayer(), "§a이동 불가!");
 	}
 
 	@Override
 	protected void onEnd() {
-		hologram.remove();
-		HandlerList.unregisterAll(this);
+		if (indicator != null) indicator.remove();
 		super.onEnd();
 	}
 
 	@Override
 	protected void onSilentEnd() {
-		hologram.remove();
-		HandlerList.unregisterAll(this);
+		if (indicator != null) indicator.remove();
 		super.onSilentEnd();
 	}
 
@@ -9,13 +9,11 @@ import daybreak.abilitywar.game.manager.effect.registry.EffectManifest;
 import daybreak.abilitywar.game.manager.effect.registry.EffectRegistry;
 import daybreak.abilitywar.game.manager.effect.registry.EffectRegistry.EffectRegistration;
 import daybreak.abilitywar.game.manager.effect.registry.EffectType;
+import daybreak.abilitywar.game.manager.effect.registry.MovementRestriction;
 import daybreak.abilitywar.utils.base.concurrent.TimeUnit;
-import daybreak.abilitywar.utils.base.minecraft.nms.NMS;
 import kotlin.ranges.RangesKt;
 import org.bukkit.Bukkit;
-import org.bukkit.Location;
 import org.bukkit.attribute.Attribute;
-import org.bukkit.entity.ArmorStand;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -24,12 +22,13 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.event.entity.EntityRegainHealthEvent;
 import org.bukkit.event.entity.EntityRegainHealthEvent.RegainReason;
-import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 
 @EffectManifest(name = "수면", displayName = "§5수면", method = ApplicationMethod.UNIQUE_LONGEST, type = {
 		EffectType.MOVEMENT_RESTRICTION
+}, movement = {
+		MovementRestriction.HORIZONTAL, MovementRestriction.ROTATION
 }, description = {
 		"이동과 시야 전환이 불가능해지지만, 체력을 서서히 회복합니다.",
 		"공격을 받으면 즉시 해제됩니다."
@@ -48,22 +47,12 @@ public class Sleep extends AbstractGame.Effect implements Listener {
 	}
 
 	private final Participant participant;
-	private final ArmorStand hologram;
-	private int stack = 0;
-	private boolean direction = true;
+	private StatusIndicator indicator = null;
 	private double healAmount = .5;
 
 	public Sleep(Participant participant, TimeUnit timeUnit, int duration) {
 		participant.getGame().super(registration, participant, timeUnit.toTicks(duration));
 		this.participant = participant;
-		final Player player = participant.getPlayer();
-		this.hologram = player.getWorld().spawn(player.getLocation(), ArmorStand.class);
-		hologram.setVisible(false);
-		hologram.setGravity(false);
-		hologram.setInvulnerable(true);
-		NMS.removeBoundingBox(hologram);
-		hologram.setCustomNameVisible(true);
-		hologram.setCustomName("§5수면...");
 		setPeriod(TimeUnit.TICKS, 1);
 	}
 
@@ -75,20 +64,10 @@ public class Sleep extends AbstractGame.Effect implements Listener {
 
 	@Override
 	protected void onStart() {
+		this.indicator = StatusIndicator.show(participant.getPlayer(), "§5수면...");
 		Bukkit.getPluginManager().registerEvents(this, AbilityWar.getPlugin());
 	}
 
-	@EventHandler
-	private void onPlayerMove(final PlayerMoveEvent e) {
-		if (e.getPlayer().getUniqueId().equals(participant.getPlayer().getUniqueId())) {
-			final Location to = e.getTo(), from = e.getFrom();
-			if (to != null) {
-				from.setY(to.getY());
-			}
-			e.setTo(from);
-		}
-	}
-
 	@EventHandler(priority = EventPriority.MONITOR)
 	private void onEntityDamage(final EntityDamageEvent e) {
 		if (participant.getPlayer().equals(e.getEntity())) {
@@ -109,19 +88,11 @@ public class Sleep extends AbstractGame.Effect implements Listener {
 				player.setHealth(RangesKt.coerceIn(player.getHealth() + event.getAmount(), 0, player.getAttribute(Attribute.GENERIC_MAX_HEALTH).getValue()));
 			}
 		}
-		if (hologram.isValid()) {
-			if (direction) stack++;
-			else stack--;
-			if (stack <= 0 || stack >= 30) {
-				this.direction = !direction;
-			}
-			hologram.teleport(participant.getPlayer().getLocation().clone().add(0, 2.2 + (stack * 0.008), 0));
-		}
 	}
 
 	@Override
 	protected void onEnd() {
-		hologram.remove();
+		if (indicator != null) indicator.remove();
 		HandlerList.unregisterAll(this);
 		participant.getPlayer().removePotionEffect(PotionEffectType.BLINDNESS);
 		super.onEnd();
@@ -129,7 +100,7 @@ public class Sleep extends AbstractGame.Effect implements Listener {
 
 	@Override
 	protected void onSilentEnd() {
-		hologram.remove();
+		if (indicator != null) indicator.remove();
 		HandlerList.unregisterAll(this);
 		participant.getPlayer().removePotionEffect(PotionEffectType.BLINDNESS);
 		super.onSilentEnd();
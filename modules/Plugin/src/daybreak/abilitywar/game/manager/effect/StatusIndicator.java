@@ -0,0 +1,227 @@
+package daybreak.abilitywar.game.manager.effect;
+
+import daybreak.abilitywar.AbilityWar;
+import daybreak.abilitywar.utils.base.minecraft.nms.IHologram;
+import daybreak.abilitywar.utils.base.minecraft.nms.NMS;
+import daybreak.abilitywar.utils.base.minecraft.version.NMSVersion;
+import daybreak.abilitywar.utils.base.minecraft.version.ServerVersion;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 상태이상에 걸린 플레이어의 머리 위에 표시되는 문구입니다.
+ * <p>
+ * 실제 엔티티를 소환하지 않고 {@link IHologram} 패킷으로만 표시하며, 사용이 끝난 홀로그램은 풀에 반환하여 재사용합니다.
+ * 활성화된 모든 표시는 하나의 태스크에서 함께 위치를 갱신하며, 위치가 바뀌지 않았다면 패킷을 보내지 않습니다.
+ * 대상과 같은 월드에서 {@link #VIEW_RANGE} 블록 안에 있는 플레이어에게만 보여집니다.
+ */
+public final class StatusIndicator {
+
+	/**
+	 * 기존 엔티티 홀로그램의 이름표 높이에 맞춘 높이
+	 * <p>
+	 * 기존에는 마커가 아닌 갑옷 거치대를 2 (1.17 이상에서는 4) 블록 위에 소환하여 이름표가 거치대의 키만큼 더 위에 보였지만,
+	 * 패킷 홀로그램은 마커 갑옷 거치대이므로 이름표가 소환 위치 바로 위에 보입니다. 따라서 갑옷 거치대의 키만큼 높여 비슷한 위치에 보이도록 합니다.
+	 * 게임 안에서 측정한 값이 아닌 근삿값입니다.
+	 */
+	public static final double ENTITY_HEIGHT = (ServerVersion.isAboveOrEqual(NMSVersion.v1_17_R1) ? 4 : 2) + 1.975;
+	/**
+	 * 기존 패킷 홀로그램과 같은 높이
+	 */
+	public static final double DEFAULT_HEIGHT = 2.2;
+	/**
+	 * 표시를 보여줄 최대 거리 (블록), 플레이어 엔티티의 기본 추적 거리와 같습니다.
+	 */
+	public static final double VIEW_RANGE = 48;
+
+	private static final int MAX_POOL_SIZE = 16, BOB_TICKS = 15, BOB_PERIOD = 2, VIEWER_SYNC_PERIOD = 5;
+	private static final double BOB_HEIGHT = 0.016, VIEW_RANGE_SQUARED = VIEW_RANGE * VIEW_RANGE;
+
+	private static final Deque<IHologram> pool = new ArrayDeque<>();
+	private static final List<StatusIndicator> active = new ArrayList<>();
+	private static BukkitTask updater = null;
+	private static int tick = 0;
+
+	/**
+	 * 플레이어의 머리 위에 문구를 표시합니다.
+	 *
+	 * @param target 문구를 표시할 플레이어
+	 * @param text   표시할 문구
+	 * @param height 플레이어의 발 위치로부터 문구까지의 높이
+	 */
+	public static StatusIndicator show(final @NotNull Player target, final @NotNull String text, final double height) {
+		final StatusIndicator indicator = new StatusIndicator(target, text, height);
+		active.add(indicator);
+		if (updater == null) {
+			updater = Bukkit.getScheduler().runTaskTimer(AbilityWar.getPlugin(), StatusIndicator::update, 1, 1);
+		}
+		return indicator;
+	}
+
+	/**
+	 * 플레이어의 머리 위 {@link #DEFAULT_HEIGHT} 높이에 문구를 표시합니다.
+	 */
+	public static StatusIndicator show(final @NotNull Player target, final @NotNull String text) {
+		return show(target, text, DEFAULT_HEIGHT);
+	}
+
+	/**
+	 * 활성화된 모든 표시를 제거하고, 풀에 있는 홀로그램까지 모두 등록 해제합니다.
+	 * 홀로그램이 마지막으로 사용된 월드를 붙잡아두지 않도록 게임이 끝날 때 호출됩니다.
+	 */
+	public static void clear() {
+		for (final StatusIndicator indicator : active) {
+			indicator.removed = true;
+			indicator.viewers.clear();
+			unregister(indicator.hologram);
+		}
+		active.clear();
+		for (final IHologram hologram : pool) {
+			unregister(hologram);
+		}
+		pool.clear();
+		if (updater != null) {
+			updater.cancel();
+			updater = null;
+		}
+	}
+
+	private static void unregister(final IHologram hologram) {
+		if (!hologram.isUnregistered()) hologram.unregister();
+	}
+
+	private static void update() {
+		++tick;
+		final boolean bob = tick % BOB_PERIOD == 0, syncViewers = tick % VIEWER_SYNC_PERIOD == 0;
+		for (int i = active.size() - 1; i >= 0; i--) {
+			final StatusIndicator indicator = active.get(i);
+			if (bob) indicator.bob();
+			if (syncViewers) indicator.syncViewers();
+			indicator.move(false);
+		}
+		if (active.isEmpty()) {
+			updater.cancel();
+			updater = null;
+		}
+	}
+
+	private final Player target;
+	private final IHologram hologram;
+	private final double height;
+	private final Set<Player> viewers = new HashSet<>();
+	private final Location location = new Location(null, 0, 0, 0);
+	private String text;
+	private int stack = 0;
+	private boolean direction = true, removed = false;
+	private World lastWorld = null;
+	private double lastX, lastY, lastZ;
+
+	private StatusIndicator(final Player target, final String text, final double height) {
+		this.target = target;
+		this.text = text;
+		this.height = height;
+		final Location location = target.getLocation(this.location);
+		final IHologram pooled = pool.poll();
+		if (pooled != null) {
+			pooled.teleport(location.getWorld(), location.getX(), location.getY() + height, location.getZ(), 0, 0);
+			pooled.setText(text);
+			this.hologram = pooled;
+		} else {
+			this.hologram = NMS.newHologram(location.getWorld(), location.getX(), location.getY() + height, location.getZ(), text);
+		}
+		syncViewers();
+		move(true);
+	}
+
+	private void bob() {
+		if (direction) stack++;
+		else stack--;
+		if (stack <= 0 || stack >= BOB_TICKS) {
+			this.direction = !direction;
+		}
+	}
+
+	/**
+	 * 대상의 위치로 홀로그램을 옮깁니다. 대상이 움직이지 않았고 높이도 바뀌지 않았다면 패킷을 보내지 않습니다.
+	 */
+	private void move(final boolean force) {
+		final Location location = target.getLocation(this.location);
+		final World world = location.getWorld();
+		final double x = location.getX(), y = location.getY() + height + (stack * BOB_HEIGHT), z = location.getZ();
+		location.setWorld(null);
+		if (!force && world == lastWorld && x == lastX && y == lastY && z == lastZ) return;
+		this.lastWorld = world;
+		this.lastX = x;
+		this.lastY = y;
+		this.lastZ = z;
+		hologram.teleport(world, x, y, z, 0, 0);
+	}
+
+	/**
+	 * 대상과 같은 월드에서 {@link #VIEW_RANGE} 블록 안에 있는 플레이어에게만 보이도록 합니다.
+	 * 새로 보이게 된 플레이어가 있다면, 풀에서 재사용된 홀로그램이 이전 위치에 소환되지 않도록 현재 위치를 바로 다시 보냅니다.
+	 */
+	private void syncViewers() {
+		final Location location = target.getLocation(this.location);
+		final World world = location.getWorld();
+		final double x = location.getX(), y = location.getY(), z = location.getZ();
+		location.setWorld(null);
+		boolean added = false;
+		for (final Player player : Bukkit.getOnlinePlayers()) {
+			final Location other = player.getLocation(this.location);
+			final boolean inRange = world.equals(other.getWorld()) && square(other.getX() - x) + square(other.getY() - y) + square(other.getZ() - z) <= VIEW_RANGE_SQUARED;
+			other.setWorld(null);
+			if (inRange) {
+				if (viewers.add(player)) {
+					hologram.display(player);
+					added = true;
+				}
+			} else if (viewers.remove(player)) {
+				hologram.hide(player);
+			}
+		}
+		viewers.removeIf(player -> !player.isOnline());
+		if (added) move(true);
+	}
+
+	private static double square(final double value) {
+		return value * value;
+	}
+
+	public void setText(final @NotNull String text) {
+		if (!removed && !text.equals(this.text)) {
+			this.text = text;
+			hologram.setText(text);
+		}
+	}
+
+	/**
+	 * 표시를 제거하고 홀로그램을 풀에 반환합니다.
+	 */
+	public void remove() {
+		if (removed) return;
+		this.removed = true;
+		active.remove(this);
+		if (pool.size() < MAX_POOL_SIZE) {
+			for (final Player player : viewers) {
+				hologram.hide(player);
+			}
+			viewers.clear();
+			pool.push(hologram);
+		} else {
+			hologram.unregister();
+		}
+	}
+
+}
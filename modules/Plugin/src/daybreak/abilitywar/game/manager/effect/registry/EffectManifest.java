@@ -13,6 +13,7 @@ public @interface EffectManifest {
 	String displayName();
 	ApplicationMethod method() default ApplicationMethod.MULTIPLE;
 	EffectType[] type() default {};
+	MovementRestriction[] movement() default {};
 	String[] description() default {};
 
 }
@@ -86,6 +86,7 @@ public class EffectRegistry {
 		private final Map<String, Constructor<E>> constructors = new HashMap<>();
 		private final EffectManifest manifest;
 		private final ImmutableSet<EffectType> effectType;
+		private final ImmutableSet<MovementRestriction> movementRestrictions;
 
 		private EffectRegistration(Class<E> clazz) throws NoSuchMethodException {
 			this.clazz = Preconditions.checkNotNull(clazz);
@@ -141,6 +142,7 @@ public class EffectRegistry {
 			this.manifest = manifest;
 			Preconditions.checkNotNull(manifest.name());
 			this.effectType = ImmutableSet.copyOf(manifest.type());
+			this.movementRestrictions = ImmutableSet.copyOf(manifest.movement());
 		}
 
 		public Class<? extends Effect> getEffectClass() {
@@ -167,6 +169,10 @@ public class EffectRegistry {
 			return effectType;
 		}
 
+		public ImmutableSet<MovementRestriction> getMovementRestrictions() {
+			return movementRestrictions;
+		}
+
 		public E apply(final @NotNull Participant participant, final @NotNull TimeUnit timeUnit, final int duration) {
 			final ParticipantPreEffectApplyEvent preEvent = new ParticipantPreEffectApplyEvent(participant, this, timeUnit, duration);
 			Bukkit.getPluginManager().callEvent(preEvent);
@@ -0,0 +1,22 @@
+package daybreak.abilitywar.game.manager.effect.registry;
+
+/**
+ * 효과가 적용된 동안 참가자의 움직임 중 막을 요소입니다.
+ * {@link EffectManifest#movement()}에 선언하면 게임에서 하나의 {@link org.bukkit.event.player.PlayerMoveEvent} 리스너로 처리합니다.
+ */
+public enum MovementRestriction {
+
+	/**
+	 * X, Z 좌표 이동
+	 */
+	HORIZONTAL,
+	/**
+	 * Y 좌표 이동 (점프, 낙하)
+	 */
+	VERTICAL,
+	/**
+	 * 시야 전환
+	 */
+	ROTATION
+
+}
@@ -95,6 +95,8 @@ public class AbilityGUI implements Listener, Observer {
 		for (Entry<String, AbilityRegistration> entry : values.entrySet()) {
 			if (count / 36 == page - 1) {
 				final AbilityRegistration registration = entry.getValue();
+				// 설명은 비동기로 만들어지므로, 능력 클래스의 초기화와 설정 등록은 메인 스레드에서 먼저 수행합니다.
+				registration.getSettingObjects();
 				final AbilityManifest manifest = registration.getManifest();
 				final ItemStack stack = MaterialX.WHITE_STAINED_GLASS.createItem();
 				final ItemMeta meta = stack.getItemMeta();
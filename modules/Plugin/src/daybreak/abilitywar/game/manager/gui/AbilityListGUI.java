@@ -8,9 +8,11 @@ import daybreak.abilitywar.ability.AbilityFactory.AbilityRegistration.Flag;
 import daybreak.abilitywar.ability.AbilityManifest;
 import daybreak.abilitywar.ability.AbilityManifest.Rank;
 import daybreak.abilitywar.ability.AbilityManifest.Species;
+import daybreak.abilitywar.config.ability.AbilitySettings;
 import daybreak.abilitywar.game.manager.AbilityList;
 import daybreak.abilitywar.game.manager.gui.tip.AbilityTipGUI;
 import daybreak.abilitywar.utils.base.Messager;
+import daybreak.abilitywar.utils.base.Seasons;
 import daybreak.abilitywar.utils.base.minecraft.item.builder.ItemBuilder;
 import daybreak.abilitywar.utils.library.MaterialX;
 import org.bukkit.Bukkit;
@@ -28,14 +30,17 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.plugin.Plugin;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
 import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class AbilityListGUI implements Listener, PagedGUI {
 
@@ -74,6 +79,7 @@ public class AbilityListGUI implements Listener, PagedGUI {
 	private static Set<AbilityRegistration> byName = new TreeSet<>(nameComparator);
 	private static Set<AbilityRegistration> byRank = new TreeSet<>(rankComparator);
 	private static Set<AbilityRegistration> bySpecies = new TreeSet<>(speciesComparator);
+	private static volatile int generation = 0;
 
 	static {
 		for (AbilityRegistration registration : AbilityList.values()) {
@@ -92,7 +98,7 @@ public class AbilityListGUI implements Listener, PagedGUI {
 			}
 
 			@Override
-			public ItemStack getItem(AbilityRegistration registration, boolean withDescription) {
+			protected ItemStack render(AbilityRegistration registration, boolean withDescription) {
 				final AbilityManifest manifest = registration.getManifest();
 				final ItemStack stack = (withDescription ? MaterialX.IRON_BLOCK : MaterialX.WHITE_STAINED_GLASS).createItem();
 				final ItemMeta meta = stack.getItemMeta();
@@ -150,7 +156,7 @@ public class AbilityListGUI implements Listener, PagedGUI {
 			}
 
 			@Override
-			public ItemStack getItem(AbilityRegistration registration, boolean withDescription) {
+			protected ItemStack render(AbilityRegistration registration, boolean withDescription) {
 				final AbilityManifest manifest = registration.getManifest();
 				final ItemStack stack = withDescription ? concrete.getOrDefault(manifest.rank(), MaterialX.WHITE_CONCRETE).createItem() : stainedGlass.getOrDefault(manifest.rank(), MaterialX.WHITE_STAINED_GLASS).createItem();
 				final ItemMeta meta = stack.getItemMeta();
@@ -210,7 +216,7 @@ public class AbilityListGUI implements Listener, PagedGUI {
 			}
 
 			@Override
-			public ItemStack getItem(AbilityRegistration registration, boolean withDescription) {
+			protected ItemStack render(AbilityRegistration registration, boolean withDescription) {
 				final AbilityManifest manifest = registration.getManifest();
 				final ItemStack stack = withDescription ? concrete.getOrDefault(manifest.species(), MaterialX.WHITE_CONCRETE).createItem() : stainedGlass.getOrDefault(manifest.species(), MaterialX.WHITE_STAINED_GLASS).createItem();
 				final ItemMeta meta = stack.getItemMeta();
@@ -245,17 +251,70 @@ public class AbilityListGUI implements Listener, PagedGUI {
 		};
 
 		public abstract Iterable<AbilityRegistration> getIterable();
-		public abstract ItemStack getItem(AbilityRegistration registration, boolean withDescription);
+		protected abstract ItemStack render(AbilityRegistration registration, boolean withDescription);
 		public abstract SortType next();
 
 		private final String name;
 		private final Material icon;
+		private final Map<AbilityRegistration, RenderedItem> plainItems = new ConcurrentHashMap<>(), describedItems = new ConcurrentHashMap<>();
+		private AbilityRegistration[][] pages = null;
+		private int pagesGeneration = -1;
 
 		SortType(final String name, final Material icon) {
 			this.name = name;
 			this.icon = icon;
 		}
 
+		/**
+		 * 능력 아이템을 반환합니다. 한 번 만든 아이템은 저장해두며, 설명을 포함하는 경우
+		 * 능력의 설정 값이 바뀌었을 때에만 다시 만듭니다.
+		 * <p>
+		 * 반환된 아이템은 여러 GUI에서 공유되므로 수정하면 안 됩니다.
+		 */
+		public ItemStack getItem(AbilityRegistration registration, boolean withDescription) {
+			final Map<AbilityRegistration, RenderedItem> items = withDescription ? describedItems : plainItems;
+			final int revision = withDescription ? AbilitySettings.getRevision(registration.getManifest().name()) : 0;
+			final boolean aprilFools = Seasons.isAprilFools();
+			RenderedItem item = items.get(registration);
+			if (item == null || item.revision != revision || item.aprilFools != aprilFools) {
+				item = new RenderedItem(render(registration, withDescription), revision, aprilFools);
+				items.put(registration, item);
+			}
+			return item.stack;
+		}
+
+		/**
+		 * 페이지에 표시될 능력들을 반환합니다. 능력 목록이 바뀌기 전까지는 나누어둔 페이지를 그대로 사용합니다.
+		 */
+		private synchronized AbilityRegistration[] getPage(final int page) {
+			if (pages == null || pagesGeneration != generation) {
+				final List<AbilityRegistration> registrations = new ArrayList<>();
+				for (AbilityRegistration registration : getIterable()) {
+					registrations.add(registration);
+				}
+				this.pages = new AbilityRegistration[((registrations.size() - 1) / 36) + 1][];
+				for (int i = 0; i < pages.length; i++) {
+					pages[i] = registrations.subList(i * 36, Math.min((i + 1) * 36, registrations.size())).toArray(new AbilityRegistration[0]);
+				}
+				this.pagesGeneration = generation;
+			}
+			return page >= 1 && page <= pages.length ? pages[page - 1] : new AbilityRegistration[0];
+		}
+
+	}
+
+	private static class RenderedItem {
+
+		private final ItemStack stack;
+		private final int revision;
+		private final boolean aprilFools;
+
+		private RenderedItem(final ItemStack stack, final int revision, final boolean aprilFools) {
+			this.stack = stack;
+			this.revision = revision;
+			this.aprilFools = aprilFools;
+		}
+
 	}
 
 	private final Plugin plugin;
@@ -283,6 +342,7 @@ public class AbilityListGUI implements Listener, PagedGUI {
 				byRank.add(registration);
 				bySpecies.add(registration);
 			}
+			generation++;
 		}
 	}
 
@@ -297,13 +357,12 @@ public class AbilityListGUI implements Listener, PagedGUI {
 		if (page < 1) page = 1;
 		gui = Bukkit.createInventory(null, 54, "§0능력 목록");
 		this.currentPage = page;
-		int count = 0;
-
-		for (AbilityRegistration registration : sortType.getIterable()) {
-			if (count / 36 == page - 1) {
-				gui.setItem(count % 36, sortType.getItem(registration, false));
-			}
-			count++;
+		final SortType sortType = this.sortType;
+		final AbilityRegistration[] registrations = sortType.getPage(page);
+		for (int i = 0; i < registrations.length; i++) {
+			gui.setItem(i, sortType.getItem(registrations[i], false));
+			// 설명은 비동기로 만들어지므로, 능력 클래스의 초기화와 설정 등록은 메인 스레드에서 먼저 수행합니다.
+			registrations[i].getSettingObjects();
 		}
 
 		{
@@ -311,14 +370,9 @@ public class AbilityListGUI implements Listener, PagedGUI {
 			this.asyncWork = CompletableFuture.runAsync(new Runnable() {
 				@Override
 				public void run() {
-					int count = 0;
-
-					for (AbilityRegistration registration : sortType.getIterable()) {
+					for (int i = 0; i < registrations.length; i++) {
 						if (currentPage != finalPage) break;
-						if (count / 36 == finalPage - 1) {
-							gui.setItem(count % 36, sortType.getItem(registration, true));
-						}
-						count++;
+						gui.setItem(i, sortType.getItem(registrations[i], true));
 					}
 				}
 			});
@@ -92,6 +92,8 @@ public class SynergyListGUI implements Listener, PagedGUI {
 		for (Cell<AbilityRegistration, AbilityRegistration, AbilityRegistration> cell : synergies) {
 			if (count / 36 == page - 1) {
 				final AbilityRegistration registration = cell.getValue();
+				// 설명은 비동기로 만들어지므로, 능력 클래스의 초기화와 설정 등록은 메인 스레드에서 먼저 수행합니다.
+				registration.getSettingObjects();
 				final AbilityManifest manifest = registration.getManifest();
 				final ItemStack stack = MaterialX.WHITE_STAINED_GLASS.createItem();
 				final ItemMeta meta = stack.getItemMeta();
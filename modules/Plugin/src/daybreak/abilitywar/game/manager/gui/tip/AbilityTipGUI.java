@@ -28,6 +28,8 @@ import org.bukkit.plugin.Plugin;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class AbilityTipGUI implements Listener {
 
@@ -51,6 +53,8 @@ public class AbilityTipGUI implements Listener {
 			.displayName("§f")
 			.build();
 
+	private static final Map<AbilityRegistration, TipPages> tipPages = new ConcurrentHashMap<>();
+
 	private final Plugin plugin;
 	private final Player player;
 	private final AbilityRegistration registration;
@@ -76,155 +80,164 @@ public class AbilityTipGUI implements Listener {
 	}
 
 	public void openGUI(int page) {
+		final TipPages tipPages = getTipPages(registration);
 		switch (state) {
 			case MAIN: {
 				this.gui = Bukkit.createInventory(null, InventoryType.HOPPER, "§9" + registration.getManifest().name() + " §0능력 팁");
 				this.currentPage = 1;
-				final Tip tip = registration.getTip();
-				if (tip == null) {
-					for (int i = 0; i < 4; i++) {
-						gui.setItem(i, NO_TIP);
-					}
-				} else {
-					{
-						final ItemStack stack = MaterialX.ENCHANTED_BOOK.createItem();
-						final ItemMeta meta = stack.getItemMeta();
-						meta.addItemFlags(ItemFlag.values());
-						meta.setDisplayName("§b" + registration.getManifest().name());
-						final Stats stats = tip.stats;
-						final List<String> lore = new ArrayList<>(10 + tip.tips.size());
-						lore.add("§f난이도§7: " + tip.difficulty.getDisplay());
-						lore.add("§8--------------------------");
-						lore.add("§f공격     §7: " + stats.offense().getDisplay());
-						lore.add("§f생존     §7: " + stats.survival().getDisplay());
-						lore.add("§f군중제어 §7: " + stats.crowdControl().getDisplay());
-						lore.add("§f기동     §7: " + stats.mobility().getDisplay());
-						lore.add("§f유틸     §7: " + stats.utility().getDisplay());
-						lore.add("§8--------------------------");
-						for (String s : tip.tips) {
-							lore.add(ChatColor.WHITE + s);
-						}
-						meta.setLore(lore);
-						stack.setItemMeta(meta);
-						gui.setItem(0, stack);
-					}
-					{
-						final ItemStack stack = (MaterialX.NETHERITE_SWORD.isSupported() ? MaterialX.NETHERITE_SWORD : MaterialX.DIAMOND_SWORD).createItem();
-						final ItemMeta meta = stack.getItemMeta();
-						meta.addItemFlags(ItemFlag.values());
-						meta.setDisplayName("§b강점");
-						final List<String> lore = new ArrayList<>(2 + tip.strong.size());
-						for (Description description : tip.strong) {
-							lore.add(ChatColor.WHITE + "- " + ChatColor.AQUA + description.subject);
-						}
-						lore.add("");
-						if (tip.strong.isEmpty()) {
-							lore.add("§7※ 작성된 강점이 없습니다.");
-						} else {
-							lore.add("§7※ 세부 내용을 확인하려면 클릭하세요.");
-						}
-						meta.setLore(lore);
-						stack.setItemMeta(meta);
-						gui.setItem(1, stack);
-					}
-					{
-						final ItemStack stack = MaterialX.WOODEN_SWORD.createItem();
-						final ItemMeta meta = stack.getItemMeta();
-						meta.addItemFlags(ItemFlag.values());
-						meta.setDisplayName("§b약점");
-						final List<String> lore = new ArrayList<>(2 + tip.weak.size());
-						for (Description description : tip.weak) {
-							lore.add(ChatColor.WHITE + "- " + ChatColor.AQUA + description.subject);
-						}
-						lore.add("");
-						if (tip.weak.isEmpty()) {
-							lore.add("§7※ 작성된 약점이 없습니다.");
-						} else {
-							lore.add("§7※ 세부 내용을 확인하려면 클릭하세요.");
-						}
-						meta.setLore(lore);
-						stack.setItemMeta(meta);
-						gui.setItem(2, stack);
-					}
-				}
-				gui.setItem(3, DECO);
-				gui.setItem(4, QUIT);
+				gui.setContents(tipPages.main);
 			}
 			break;
 			case STRONGS: {
-				final Tip tip = registration.getTip();
-				final ImmutableSet<Description> strong = tip.strong;
-				int maxPage = ((strong.size() - 1) / 9) + 1;
-				if (maxPage < page) page = 1;
+				final ItemStack[][] pages = tipPages.strong;
+				if (pages.length < page) page = 1;
 				if (page < 1) page = 1;
 				gui = Bukkit.createInventory(null, 18, "§0강점");
 				this.currentPage = page;
-				int count = 0;
-
-				for (final Description description : strong) {
-					if (count / 9 == page - 1) {
-						final ItemStack stack = description.icon.createItem();
-						final ItemMeta meta = stack.getItemMeta();
-						meta.setDisplayName("§b" + description.subject);
-						final List<String> lore = new ArrayList<>(description.explain.size());
-						for (String s : description.explain) {
-							lore.add(ChatColor.WHITE + s);
-						}
-						meta.setLore(lore);
-						stack.setItemMeta(meta);
-						gui.setItem(count % 9, stack);
-					}
-					count++;
-				}
-
-				gui.setItem(9, QUIT);
-				if (page > 1) gui.setItem(12, PREVIOUS_PAGE);
-				if (page != maxPage) gui.setItem(14, NEXT_PAGE);
-				final ItemStack stack = new ItemStack(Material.PAPER, 1);
-				final ItemMeta meta = stack.getItemMeta();
-				meta.setDisplayName("§6페이지 §e" + page + " §6/ §e" + maxPage);
-				stack.setItemMeta(meta);
-				gui.setItem(13, stack);
+				gui.setContents(pages[page - 1]);
 			}
 			break;
 			case WEAKS: {
-				final Tip tip = registration.getTip();
-				final ImmutableSet<Description> weak = tip.weak;
-				int maxPage = ((weak.size() - 1) / 9) + 1;
-				if (maxPage < page) page = 1;
+				final ItemStack[][] pages = tipPages.weak;
+				if (pages.length < page) page = 1;
 				if (page < 1) page = 1;
 				gui = Bukkit.createInventory(null, 18, "§0약점");
 				this.currentPage = page;
-				int count = 0;
+				gui.setContents(pages[page - 1]);
+			}
+			break;
+		}
+		player.openInventory(gui);
+	}
 
-				for (final Description description : weak) {
-					if (count / 9 == page - 1) {
-						final ItemStack stack = description.icon.createItem();
-						final ItemMeta meta = stack.getItemMeta();
-						meta.setDisplayName("§b" + description.subject);
-						final List<String> lore = new ArrayList<>(description.explain.size());
-						for (String s : description.explain) {
-							lore.add(ChatColor.WHITE + s);
-						}
-						meta.setLore(lore);
-						stack.setItemMeta(meta);
-						gui.setItem(count % 9, stack);
+	/**
+	 * 능력 팁 GUI에 표시될 아이템들을 반환합니다. 팁은 {@link daybreak.abilitywar.ability.Tips}에서 읽어오는 변하지 않는 값이므로,
+	 * 능력마다 한 번만 만들어 저장해둡니다.
+	 * <p>
+	 * {@link Inventory#setContents(ItemStack[])}는 아이템을 복사하므로 저장된 아이템을 여러 GUI에서 공유해도 안전합니다.
+	 */
+	private static TipPages getTipPages(final AbilityRegistration registration) {
+		return tipPages.computeIfAbsent(registration, TipPages::new);
+	}
+
+	private static class TipPages {
+
+		private final ItemStack[] main;
+		private final ItemStack[][] strong, weak;
+
+		private TipPages(final AbilityRegistration registration) {
+			final Tip tip = registration.getTip();
+			this.main = renderMain(registration, tip);
+			this.strong = tip != null ? renderPages(tip.strong) : renderPages(ImmutableSet.of());
+			this.weak = tip != null ? renderPages(tip.weak) : renderPages(ImmutableSet.of());
+		}
+
+		private static ItemStack[] renderMain(final AbilityRegistration registration, final Tip tip) {
+			final ItemStack[] contents = new ItemStack[5];
+			if (tip == null) {
+				for (int i = 0; i < 4; i++) {
+					contents[i] = NO_TIP;
+				}
+			} else {
+				{
+					final ItemStack stack = MaterialX.ENCHANTED_BOOK.createItem();
+					final ItemMeta meta = stack.getItemMeta();
+					meta.addItemFlags(ItemFlag.values());
+					meta.setDisplayName("§b" + registration.getManifest().name());
+					final Stats stats = tip.stats;
+					final List<String> lore = new ArrayList<>(10 + tip.tips.size());
+					lore.add("§f난이도§7: " + tip.difficulty.getDisplay());
+					lore.add("§8--------------------------");
+					lore.add("§f공격     §7: " + stats.offense().getDisplay());
+					lore.add("§f생존     §7: " + stats.survival().getDisplay());
+					lore.add("§f군중제어 §7: " + stats.crowdControl().getDisplay());
+					lore.add("§f기동     §7: " + stats.mobility().getDisplay());
+					lore.add("§f유틸     §7: " + stats.utility().getDisplay());
+					lore.add("§8--------------------------");
+					for (String s : tip.tips) {
+						lore.add(ChatColor.WHITE + s);
+					}
+					meta.setLore(lore);
+					stack.setItemMeta(meta);
+					contents[0] = stack;
+				}
+				{
+					final ItemStack stack = (MaterialX.NETHERITE_SWORD.isSupported() ? MaterialX.NETHERITE_SWORD : MaterialX.DIAMOND_SWORD).createItem();
+					final ItemMeta meta = stack.getItemMeta();
+					meta.addItemFlags(ItemFlag.values());
+					meta.setDisplayName("§b강점");
+					final List<String> lore = new ArrayList<>(2 + tip.strong.size());
+					for (Description description : tip.strong) {
+						lore.add(ChatColor.WHITE + "- " + ChatColor.AQUA + description.subject);
+					}
+					lore.add("");
+					if (tip.strong.isEmpty()) {
+						lore.add("§7※ 작성된 강점이 없습니다.");
+					} else {
+						lore.add("§7※ 세부 내용을 확인하려면 클릭하세요.");
 					}
-					count++;
+					meta.setLore(lore);
+					stack.setItemMeta(meta);
+					contents[1] = stack;
 				}
+				{
+					final ItemStack stack = MaterialX.WOODEN_SWORD.createItem();
+					final ItemMeta meta = stack.getItemMeta();
+					meta.addItemFlags(ItemFlag.values());
+					meta.setDisplayName("§b약점");
+					final List<String> lore = new ArrayList<>(2 + tip.weak.size());
+					for (Description description : tip.weak) {
+						lore.add(ChatColor.WHITE + "- " + ChatColor.AQUA + description.subject);
+					}
+					lore.add("");
+					if (tip.weak.isEmpty()) {
+						lore.add("§7※ 작성된 약점이 없습니다.");
+					} else {
+						lore.add("§7※ 세부 내용을 확인하려면 클릭하세요.");
+					}
+					meta.setLore(lore);
+					stack.setItemMeta(meta);
+					contents[2] = stack;
+				}
+			}
+			contents[3] = DECO;
+			contents[4] = QUIT;
+			return contents;
+		}
 
-				gui.setItem(9, QUIT);
-				if (page > 1) gui.setItem(12, PREVIOUS_PAGE);
-				if (page != maxPage) gui.setItem(14, NEXT_PAGE);
+		private static ItemStack[][] renderPages(final ImmutableSet<Description> descriptions) {
+			final int maxPage = ((descriptions.size() - 1) / 9) + 1;
+			final ItemStack[][] pages = new ItemStack[maxPage][];
+			for (int i = 0; i < maxPage; i++) {
+				final int page = i + 1;
+				final ItemStack[] contents = new ItemStack[18];
+				contents[9] = QUIT;
+				if (page > 1) contents[12] = PREVIOUS_PAGE;
+				if (page != maxPage) contents[14] = NEXT_PAGE;
 				final ItemStack stack = new ItemStack(Material.PAPER, 1);
 				final ItemMeta meta = stack.getItemMeta();
 				meta.setDisplayName("§6페이지 §e" + page + " §6/ §e" + maxPage);
 				stack.setItemMeta(meta);
-				gui.setItem(13, stack);
+				contents[13] = stack;
+				pages[i] = contents;
 			}
-			break;
+			int count = 0;
+			for (final Description description : descriptions) {
+				final ItemStack stack = description.icon.createItem();
+				final ItemMeta meta = stack.getItemMeta();
+				meta.setDisplayName("§b" + description.subject);
+				final List<String> lore = new ArrayList<>(description.explain.size());
+				for (String s : description.explain) {
+					lore.add(ChatColor.WHITE + s);
+				}
+				meta.setLore(lore);
+				stack.setItemMeta(meta);
+				pages[count / 9][count % 9] = stack;
+				count++;
+			}
+			return pages;
 		}
-		player.openInventory(gui);
+
 	}
 
 	private enum State {
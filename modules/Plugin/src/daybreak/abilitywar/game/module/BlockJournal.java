@@ -0,0 +1,232 @@
+package daybreak.abilitywar.game.module;
+
+import daybreak.abilitywar.AbilityWar;
+import daybreak.abilitywar.config.Configuration.Settings;
+import daybreak.abilitywar.utils.base.minecraft.WorldReset;
+import daybreak.abilitywar.utils.base.minecraft.block.Blocks;
+import daybreak.abilitywar.utils.base.minecraft.block.IBlockSnapshot;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * 게임 중 능력으로 변경된 블록의 원래 상태를 기록하는 저널입니다.
+ * <p>
+ * 같은 블록을 여러 능력이 변경하면 능력마다 덮어쓴 상태를 층으로 쌓아 보관합니다. 마지막으로 덮어쓴 소유자가
+ * {@link #release(Object)}를 호출하면 그 소유자가 덮어쓴 상태로 되돌리고, 아래층의 소유자가 먼저 해제하면 그 층은
+ * 바로 위층에 합쳐집니다. 가장 처음 기록된 상태는 마지막 소유자가 해제할 때 한 번만 복구됩니다.
+ * 복구는 즉시 이루어지지 않고 대기열에 쌓인 뒤, 매 틱마다 설정된 시간 안에서 물리 연산 없이 나누어 진행됩니다.
+ * 게임이 종료되면 남아있는 모든 블록을 원래 상태로 복구 대기열에 넣습니다.
+ * 초기화 중이거나 언로드된 월드의 블록은 복구하지 않고 버립니다.
+ */
+@ModuleBase(BlockJournal.class)
+public final class BlockJournal implements Module {
+
+	private final Map<Block, Entry> entries = new HashMap<>();
+	private final Map<Object, Set<Block>> owners = new HashMap<>();
+	private final Deque<Entry> queue = new ArrayDeque<>();
+	private BukkitTask task = null;
+
+	/**
+	 * 블록이 변경되기 전에 호출하여 현재 상태를 기록합니다.
+	 * 소유자가 이미 이 블록을 마지막으로 기록했다면 아무 것도 하지 않습니다.
+	 *
+	 * @param owner 블록을 변경하는 능력 등의 소유자
+	 * @param block 변경할 블록
+	 * @return 블록의 상태를 새로 기록한 경우 true
+	 */
+	public boolean record(final @NotNull Object owner, final @NotNull Block block) {
+		Entry entry = entries.get(block);
+		if (entry == null) {
+			entry = new Entry(block);
+			entries.put(block, entry);
+		} else {
+			entry.flush();
+			if (entry.layers.isEmpty()) {
+				entries.put(block, entry);
+			} else if (entry.top().owner == owner) return false;
+		}
+		entry.layers.add(new Layer(owner, Blocks.createSnapshot(block)));
+		owners.computeIfAbsent(owner, key -> new HashSet<>()).add(block);
+		return true;
+	}
+
+	/**
+	 * 소유자가 블록을 기록했는지 확인합니다.
+	 */
+	public boolean isRecorded(final @NotNull Object owner, final @NotNull Block block) {
+		final Set<Block> blocks = owners.get(owner);
+		return blocks != null && blocks.contains(block);
+	}
+
+	/**
+	 * 소유자가 기록한 모든 블록에서 소유자의 층을 제거하고, 소유자가 마지막으로 덮어쓴 블록을 복구 대기열에 넣습니다.
+	 */
+	public void release(final @NotNull Object owner) {
+		release(owner, null);
+	}
+
+	/**
+	 * 소유자가 기록한 모든 블록에서 소유자의 층을 제거하고, 소유자가 마지막으로 덮어쓴 블록을 복구 대기열에 넣습니다.
+	 *
+	 * @param condition 복구할 때 블록이 이 조건을 만족하지 않으면 복구하지 않습니다.
+	 *                  소유자가 마지막으로 덮어쓴 블록에만 검사합니다.
+	 */
+	public void release(final @NotNull Object owner, final @Nullable Predicate<Block> condition) {
+		final Set<Block> blocks = owners.remove(owner);
+		if (blocks == null) return;
+		for (final Block block : blocks) {
+			final Entry entry = entries.get(block);
+			if (entry == null) continue;
+			entry.flush();
+			final List<Layer> layers = entry.layers;
+			for (int i = layers.size() - 1; i >= 0; i--) {
+				final Layer layer = layers.get(i);
+				if (layer.owner != owner) continue;
+				layers.remove(i);
+				if (i == layers.size()) {
+					entry.pending = layer.before;
+					entry.condition = condition;
+					enqueue(entry);
+				} else {
+					layers.get(i).before = layer.before;
+				}
+			}
+		}
+		startRestoring();
+	}
+
+	/**
+	 * 기록된 블록의 수를 반환합니다.
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	private void enqueue(final Entry entry) {
+		if (!entry.queued) {
+			entry.queued = true;
+			queue.add(entry);
+		}
+	}
+
+	private void startRestoring() {
+		if (queue.isEmpty()) return;
+		if (!AbilityWar.getPlugin().isEnabled()) {
+			// 플러그인이 비활성화되면 진행 중인 태스크도 취소되므로, 남은 블록을 모두 바로 복구합니다.
+			if (task != null) {
+				task.cancel();
+				this.task = null;
+			}
+			restore(Long.MAX_VALUE);
+			return;
+		}
+		if (task != null) return;
+		this.task = Bukkit.getScheduler().runTaskTimer(AbilityWar.getPlugin(), () -> {
+			restore(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Settings.getBlockRestoreBudget()));
+			if (queue.isEmpty()) {
+				task.cancel();
+				this.task = null;
+			}
+		}, 0, 1);
+	}
+
+	/**
+	 * 주어진 시각까지 대기열의 블록을 복구합니다. 한 번 호출될 때마다 최소 하나의 블록은 복구합니다.
+	 */
+	private void restore(final long deadline) {
+		do {
+			final Entry entry = queue.poll();
+			if (entry == null) break;
+			entry.queued = false;
+			entry.flush();
+		} while (System.nanoTime() < deadline);
+	}
+
+	@Override
+	public void register() {}
+
+	@Override
+	public void unregister() {
+		owners.clear();
+		for (final Entry entry : entries.values()) {
+			if (!entry.layers.isEmpty()) {
+				entry.pending = entry.layers.get(0).before;
+				entry.condition = null;
+				entry.layers.clear();
+			}
+			enqueue(entry);
+		}
+		startRestoring();
+	}
+
+	/**
+	 * 블록의 월드가 초기화 중이거나 이미 언로드되었다면, 월드가 백업으로 되돌아가므로 블록을 복구하지 않습니다.
+	 */
+	private static boolean isRestorable(final Block block) {
+		final World world = block.getWorld();
+		return !WorldReset.isResetting(world.getName()) && Bukkit.getWorld(world.getName()) == world;
+	}
+
+	private final class Entry {
+
+		private final Block block;
+		private final List<Layer> layers = new ArrayList<>(1);
+		private IBlockSnapshot pending = null;
+		private Predicate<Block> condition = null;
+		private boolean queued = false;
+
+		private Entry(final Block block) {
+			this.block = block;
+		}
+
+		private Layer top() {
+			return layers.get(layers.size() - 1);
+		}
+
+		/**
+		 * 대기 중인 복구가 있다면 바로 적용합니다.
+		 */
+		private void flush() {
+			final IBlockSnapshot pending = this.pending;
+			if (pending != null) {
+				this.pending = null;
+				if (isRestorable(block) && (condition == null || condition.test(block))) {
+					pending.apply(false);
+				}
+				this.condition = null;
+			}
+			if (layers.isEmpty()) {
+				entries.remove(block, this);
+			}
+		}
+
+	}
+
+	private static final class Layer {
+
+		private final Object owner;
+		private IBlockSnapshot before;
+
+		private Layer(final Object owner, final IBlockSnapshot before) {
+			this.owner = owner;
+			this.before = before;
+		}
+
+	}
+
+}
@@ -1,20 +1,26 @@
 package daybreak.abilitywar.game.module;
 
-import com.google.common.collect.Multimap;
 import com.google.common.collect.MultimapBuilder;
 import com.google.common.collect.SetMultimap;
 import daybreak.abilitywar.AbilityWar;
+import daybreak.abilitywar.ability.event.AbilityEvent;
 import daybreak.abilitywar.utils.base.reflect.ReflectionUtil.FieldUtil;
 import org.bukkit.Bukkit;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
 import org.bukkit.event.Event;
 import org.bukkit.event.EventException;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityEvent;
+import org.bukkit.event.player.PlayerEvent;
 import org.bukkit.plugin.EventExecutor;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Field;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
@@ -23,7 +29,9 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @ModuleBase(EventManager.class)
@@ -59,23 +67,127 @@ public final class EventManager implements ListenerModule {
 		protected final EventPriority eventPriority;
 		protected final int priority;
 		protected final List<Class<? extends Event>> childs;
+		protected final @Nullable UUID subject;
 
-		public EventObserver(final Class<? extends Event> eventClass, final EventPriority eventPriority, final int priority, final List<Class<? extends Event>> childs) {
+		/**
+		 * @param subject 이 옵저버가 관련된 이벤트만 처리할 경우, 관련 대상의 {@link UUID}.
+		 *                지정된 경우 {@link #getSubject(Event)}가 다른 대상을 반환하는 이벤트는 전달되지 않습니다.
+		 *                null일 경우 모든 이벤트가 전달됩니다.
+		 */
+		public EventObserver(final Class<? extends Event> eventClass, final EventPriority eventPriority, final int priority, final List<Class<? extends Event>> childs, final @Nullable UUID subject) {
 			this.eventClass = eventClass;
 			this.eventPriority = eventPriority;
 			this.priority = priority;
 			this.childs = childs.isEmpty() ? childs : childs.stream().filter(eventClass::isAssignableFrom).distinct().collect(Collectors.toList());
+			this.subject = subject;
+		}
+
+		public EventObserver(final Class<? extends Event> eventClass, final EventPriority eventPriority, final int priority, final List<Class<? extends Event>> childs) {
+			this(eventClass, eventPriority, priority, childs, null);
+		}
+
+		public EventObserver(final Class<? extends Event> eventClass, final EventPriority eventPriority, final int priority, final @Nullable UUID subject) {
+			this(eventClass, eventPriority, priority, Collections.emptyList(), subject);
 		}
 
 		public EventObserver(final Class<? extends Event> eventClass, final EventPriority eventPriority, final int priority) {
-			this(eventClass, eventPriority, priority, Collections.emptyList());
+			this(eventClass, eventPriority, priority, Collections.emptyList(), null);
 		}
 
 		protected abstract void onEvent(Event event);
 
 	}
 
-	private class Observers extends HashMap<Class<? extends Event>, SetMultimap<Integer, EventObserver>> implements EventExecutor {
+	/**
+	 * 이벤트와 관련된 대상의 {@link UUID}를 반환합니다.
+	 * {@link AbilityEvent}는 능력 소유자, {@link PlayerEvent}는 플레이어, {@link EntityEvent}는 엔티티를 대상으로 합니다.
+	 *
+	 * @return 이벤트와 관련된 대상의 {@link UUID}, 대상이 없는 이벤트일 경우 null
+	 */
+	@Nullable
+	public static UUID getSubject(final Event event) {
+		if (event instanceof AbilityEvent) {
+			return ((AbilityEvent) event).getPlayer().getUniqueId();
+		} else if (event instanceof PlayerEvent) {
+			final Player player = ((PlayerEvent) event).getPlayer();
+			return player != null ? player.getUniqueId() : null;
+		} else if (event instanceof EntityEvent) {
+			final Entity entity = ((EntityEvent) event).getEntity();
+			return entity != null ? entity.getUniqueId() : null;
+		}
+		return null;
+	}
+
+	/**
+	 * 한 이벤트 클래스에 등록된 옵저버 목록입니다.
+	 * 대상이 지정된 옵저버는 대상 {@link UUID}별로 따로 색인되어, 대상이 있는 이벤트는
+	 * 전역 옵저버와 해당 대상의 옵저버만 우선 순위 순서대로 순회합니다.
+	 */
+	private static class EventObservers {
+
+		private final SetMultimap<Integer, EventObserver> all = newMultimap(), global = newMultimap();
+		private final Map<UUID, SetMultimap<Integer, EventObserver>> bySubject = new HashMap<>();
+
+		private static SetMultimap<Integer, EventObserver> newMultimap() {
+			return MultimapBuilder.treeKeys().hashSetValues().build();
+		}
+
+		private void put(final EventObserver observer) {
+			all.put(observer.priority, observer);
+			if (observer.subject != null) {
+				bySubject.computeIfAbsent(observer.subject, uuid -> newMultimap()).put(observer.priority, observer);
+			} else {
+				global.put(observer.priority, observer);
+			}
+		}
+
+		private void remove(final EventObserver observer) {
+			all.remove(observer.priority, observer);
+			if (observer.subject != null) {
+				final SetMultimap<Integer, EventObserver> multimap = bySubject.get(observer.subject);
+				if (multimap != null && multimap.remove(observer.priority, observer) && multimap.isEmpty()) {
+					bySubject.remove(observer.subject);
+				}
+			} else {
+				global.remove(observer.priority, observer);
+			}
+		}
+
+		private void execute(final Event event) {
+			final UUID subject = getSubject(event);
+			if (subject == null) {
+				for (EventObserver observer : all.values()) {
+					observer.onEvent(event);
+				}
+				return;
+			}
+			final SetMultimap<Integer, EventObserver> relevant = bySubject.get(subject);
+			if (relevant == null) {
+				for (EventObserver observer : global.values()) {
+					observer.onEvent(event);
+				}
+				return;
+			}
+			final Iterator<Entry<Integer, Collection<EventObserver>>> globalIterator = global.asMap().entrySet().iterator(), relevantIterator = relevant.asMap().entrySet().iterator();
+			Entry<Integer, Collection<EventObserver>> globalEntry = globalIterator.hasNext() ? globalIterator.next() : null, relevantEntry = relevantIterator.hasNext() ? relevantIterator.next() : null;
+			while (globalEntry != null || relevantEntry != null) {
+				if (relevantEntry == null || (globalEntry != null && globalEntry.getKey() <= relevantEntry.getKey())) {
+					for (EventObserver observer : globalEntry.getValue()) {
+						observer.onEvent(event);
+					}
+					globalEntry = globalIterator.hasNext() ? globalIterator.next() : null;
+				} else {
+					for (EventObserver observer : relevantEntry.getValue()) {
+						observer.onEvent(event);
+					}
+					relevantEntry = relevantIterator.hasNext() ? relevantIterator.next() : null;
+				}
+			}
+		}
+
+	}
+
+	private class Observers extends HashMap<Class<? extends Event>, EventObservers> implements EventExecutor {
 
 		private final EventPriority eventPriority;
 
@@ -88,12 +200,12 @@ public final class EventManager implements ListenerModule {
 		private final Set<Class<? extends Event>> registeredEvents = new HashSet<>();
 
 		@NotNull
-		public SetMultimap<Integer, EventObserver> getNotNull(final Class<? extends Event> key) {
-			final SetMultimap<Integer, EventObserver> got = super.get(key);
+		public EventObservers getNotNull(final Class<? extends Event> key) {
+			final EventObservers got = super.get(key);
 			if (got == null) {
-				final SetMultimap<Integer, EventObserver> multimap = MultimapBuilder.treeKeys().hashSetValues().build();
-				super.put(key, multimap);
-				return multimap;
+				final EventObservers observers = new EventObservers();
+				super.put(key, observers);
+				return observers;
 			} else {
 				return got;
 			}
@@ -136,7 +248,7 @@ public final class EventManager implements ListenerModule {
 			if (handlerDeclaringClass != null && registeredEvents.add(handlerDeclaringClass)) {
 				Bukkit.getPluginManager().registerEvent(handlerDeclaringClass, EventManager.this, this.eventPriority, this, AbilityWar.getPlugin());
 			}
-			getNotNull(eventClass).put(observer.priority, observer);
+			getNotNull(eventClass).put(observer);
 		}
 
 		private void unregister(final EventObserver observer) {
@@ -148,20 +260,25 @@ public final class EventManager implements ListenerModule {
 		}
 
 		private void unregister0(final EventObserver observer) {
-			final Multimap<Integer, EventObserver> priorityMap = super.get(observer.eventClass);
-			if (priorityMap != null) {
-				priorityMap.remove(observer.priority, observer);
+			unregister1(observer.eventClass, observer);
+			for (Class<? extends Event> child : observer.childs) {
+				unregister1(child, observer);
+			}
+		}
+
+		private void unregister1(final Class<? extends Event> eventClass, final EventObserver observer) {
+			final EventObservers observers = super.get(eventClass);
+			if (observers != null) {
+				observers.remove(observer);
 			}
 		}
 
 		@Override
 		public void execute(@NotNull Listener listener, @NotNull Event event) throws EventException {
-			final Class<? extends Event> eventClass = event.getClass();
-			if (containsKey(eventClass)) {
+			final EventObservers observers = super.get(event.getClass());
+			if (observers != null) {
 				iterationStarted();
-				for (EventObserver value : getNotNull(eventClass).values()) {
-					value.onEvent(event);
-				}
+				observers.execute(event);
 				iterationEnded();
 			}
 		}
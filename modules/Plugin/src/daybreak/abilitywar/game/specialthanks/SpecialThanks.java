@@ -1,36 +1,23 @@
 package daybreak.abilitywar.game.specialthanks;
 
 import com.google.common.collect.ImmutableSet;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import daybreak.abilitywar.utils.base.minecraft.MojangAPI;
 import daybreak.abilitywar.utils.base.minecraft.SkinInfo;
-import daybreak.abilitywar.utils.base.minecraft.inventory.Inventories;
 import daybreak.abilitywar.utils.base.minecraft.item.Skulls;
 import daybreak.abilitywar.utils.base.minecraft.item.builder.CustomSkullBuilder;
 import org.bukkit.ChatColor;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.Nullable;
 
-import javax.net.ssl.HttpsURLConnection;
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.net.URL;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class SpecialThanks {
 
-	private static final Map<String, SkinInfo> skinInfos = new HashMap<>();
+	private static final Map<String, SkinInfo> skinInfos = new ConcurrentHashMap<>();
 
 	static {
-		CompletableFuture.runAsync(new Runnable() {
-			@Override
-			public void run() {
-				registerSkinInfo("새벽", "107f4338b6aa471087748b7ef8170414");
-			}
-		});
+		registerSkinInfo("새벽", "107f4338b6aa471087748b7ef8170414");
 	}
 
 	@Nullable
@@ -39,17 +26,13 @@ public class SpecialThanks {
 	}
 
 	private static void registerSkinInfo(String displayName, String uuid) {
-		try {
-			final HttpsURLConnection connection = (HttpsURLConnection) new URL("https://sessionserver.mojang.com/session/minecraft/profile/" + uuid + "?unsigned=false").openConnection();
-			if (connection.getResponseCode() == HttpsURLConnection.HTTP_OK) {
-				try (final BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream()))) {
-					final JsonObject properties = JsonParser.parseReader(reader).getAsJsonObject().getAsJsonArray("properties").get(0).getAsJsonObject();
-					skinInfos.put(displayName, new SkinInfo(displayName, properties.get("value").getAsString(), properties.get("signature").getAsString()));
-				}
+		MojangAPI.getSkinByUniqueIdAsync(uuid).whenComplete((skin, throwable) -> {
+			if (skin != null) {
+				skinInfos.put(displayName, new SkinInfo(displayName, skin.getValue(), skin.getSignature()));
+			} else {
+				throwable.printStackTrace();
 			}
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		});
 	}
 
 	public static final ImmutableSet<UUID> developers = ImmutableSet.of(
@@ -255,22 +238,14 @@ public class SpecialThanks {
 
 		private final String displayName;
 		private final String[] description;
-		private String name;
+		private volatile String name;
 
 		public SpecialThank(String displayName, String uuid, String... description) {
 			this.displayName = displayName;
-			CompletableFuture.runAsync(new Runnable() {
-				@Override
-				public void run() {
-					try {
-						final String name = MojangAPI.getNickname(uuid);
-						Inventories.common.setItem(0, Skulls.createSkull(name));
-						registerSkinInfo(displayName, uuid);
-						SpecialThank.this.name = name;
-					} catch (IOException e) {
-						SpecialThank.this.name = null;
-					}
-				}
+			MojangAPI.getNicknameAsync(uuid).thenAccept(name -> {
+				Skulls.prefetch(name);
+				registerSkinInfo(displayName, uuid);
+				SpecialThank.this.name = name;
 			});
 			this.description = new String[description.length];
 			for (int i = 0; i < description.length; i++) {
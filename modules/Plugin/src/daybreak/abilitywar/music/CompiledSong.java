@@ -0,0 +1,80 @@
+package daybreak.abilitywar.music;
+
+import com.xxmicloxx.NoteBlockAPI.model.Layer;
+import com.xxmicloxx.NoteBlockAPI.model.Note;
+import com.xxmicloxx.NoteBlockAPI.model.Song;
+import com.xxmicloxx.NoteBlockAPI.utils.InstrumentUtils;
+import com.xxmicloxx.NoteBlockAPI.utils.NoteUtils;
+import org.bukkit.Sound;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 재생할 수 있도록 미리 변환해둔 노래입니다.
+ * <p>
+ * 모든 레이어의 노트를 틱 순서대로 펼쳐 하나의 배열에 담고, 악기와 음높이도 미리 {@link Sound}와 pitch 값으로 변환해둡니다.
+ * 틱 t에 재생할 노트는 {@code offsets[t]}부터 {@code offsets[t + 1]} 전까지입니다.
+ */
+public final class CompiledSong {
+
+	private final int length, delay;
+	private final int[] offsets;
+	private final Sound[] sounds;
+	private final float[] pitches;
+
+	public CompiledSong(final Song song) {
+		this.length = song.getLength() + 1;
+		this.delay = (int) song.getDelay();
+		this.offsets = new int[length + 1];
+		final List<Sound> sounds = new ArrayList<>();
+		final List<Float> pitches = new ArrayList<>();
+		for (int tick = 0; tick < length; tick++) {
+			offsets[tick] = sounds.size();
+			for (final Layer layer : song.getLayerHashMap().values()) {
+				final Note note = layer.getNote(tick);
+				if (note != null) {
+					sounds.add(InstrumentUtils.getInstrument(note.getInstrument()));
+					pitches.add(NoteUtils.getPitch(note.getKey(), note.getPitch()));
+				}
+			}
+		}
+		offsets[length] = sounds.size();
+		this.sounds = sounds.toArray(new Sound[0]);
+		this.pitches = new float[pitches.size()];
+		for (int i = 0; i < this.pitches.length; i++) {
+			this.pitches[i] = pitches.get(i);
+		}
+	}
+
+	/**
+	 * 노래의 길이 (틱)
+	 */
+	public int getLength() {
+		return length;
+	}
+
+	/**
+	 * 노래의 한 틱이 몇 서버 틱인지 반환합니다.
+	 */
+	public int getDelay() {
+		return delay;
+	}
+
+	public int getStart(final int tick) {
+		return offsets[tick];
+	}
+
+	public int getEnd(final int tick) {
+		return offsets[tick + 1];
+	}
+
+	public Sound getSound(final int index) {
+		return sounds[index];
+	}
+
+	public float getPitch(final int index) {
+		return pitches[index];
+	}
+
+}
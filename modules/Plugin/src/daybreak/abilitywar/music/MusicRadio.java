@@ -1,37 +1,33 @@
 package daybreak.abilitywar.music;
 
-import com.xxmicloxx.NoteBlockAPI.model.Layer;
-import com.xxmicloxx.NoteBlockAPI.model.Note;
-import com.xxmicloxx.NoteBlockAPI.model.Song;
-import com.xxmicloxx.NoteBlockAPI.utils.InstrumentUtils;
-import com.xxmicloxx.NoteBlockAPI.utils.NoteUtils;
 import daybreak.abilitywar.utils.base.concurrent.SimpleTimer;
 import daybreak.abilitywar.utils.base.concurrent.TimeUnit;
 import kotlin.ranges.RangesKt;
 import org.bukkit.Bukkit;
+import org.bukkit.Location;
 import org.bukkit.SoundCategory;
 import org.bukkit.entity.Player;
 
 public class MusicRadio extends SimpleTimer {
 
-	private final Song song;
+	private final CompiledSong song;
 
-	public MusicRadio(final Song song) {
-		super(TaskType.NORMAL, song.getLength() + 1);
+	public MusicRadio(final CompiledSong song) {
+		super(TaskType.NORMAL, song.getLength());
 		this.song = song;
-		setPeriod(TimeUnit.TICKS, RangesKt.coerceAtLeast((int) song.getDelay(), 1));
+		setPeriod(TimeUnit.TICKS, RangesKt.coerceAtLeast(song.getDelay(), 1));
 	}
 
 	@Override
 	protected void run(int count) {
-		for (Layer layer : song.getLayerHashMap().values()) {
-			final Note note = layer.getNote(count - 1);
-			if (note != null) {
-				for (Player player : Bukkit.getOnlinePlayers()) {
-					player.playSound(player.getLocation(), InstrumentUtils.getInstrument(note.getInstrument()), SoundCategory.RECORDS, 2f, NoteUtils.getPitch(note.getKey(), note.getPitch()));
-				}
+		final int start = song.getStart(count - 1), end = song.getEnd(count - 1);
+		if (start == end) return;
+		for (Player player : Bukkit.getOnlinePlayers()) {
+			final Location location = player.getLocation();
+			for (int i = start; i < end; i++) {
+				player.playSound(location, song.getSound(i), SoundCategory.RECORDS, 2f, song.getPitch(i));
 			}
 		}
 	}
 
-}
\ No newline at end of file
+}
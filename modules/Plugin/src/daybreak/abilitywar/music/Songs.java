@@ -5,11 +5,14 @@ import com.xxmicloxx.NoteBlockAPI.utils.NBSDecoder;
 import daybreak.abilitywar.AbilityWar;
 import daybreak.abilitywar.utils.base.random.Random;
 
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 
 public class Songs {
 
 	private static final Random random = new Random();
+	private static final Map<String, CompiledSong> songs = new HashMap<>();
 
 	static {
 
@@ -31,8 +34,20 @@ public class Songs {
 		}
 	}
 
-	public static Song getRandom(Category category) {
-		return NBSDecoder.parse(AbilityWar.class.getResourceAsStream("/daybreak/abilitywar/music/" + category.name().toLowerCase(Locale.ROOT) + "/" + random.pick(category.songs) + ".nbs"));
+	/**
+	 * 카테고리의 노래 중 하나를 무작위로 골라 반환합니다.
+	 * 노래는 처음 선택되었을 때 한 번만 읽어 변환하고, 이후에는 변환된 노래를 재사용합니다.
+	 */
+	public static CompiledSong getRandom(Category category) {
+		final String path = "/daybreak/abilitywar/music/" + category.name().toLowerCase(Locale.ROOT) + "/" + random.pick(category.songs) + ".nbs";
+		CompiledSong compiled = songs.get(path);
+		if (compiled == null) {
+			final Song song = NBSDecoder.parse(AbilityWar.class.getResourceAsStream(path));
+			if (song == null) return null;
+			compiled = new CompiledSong(song);
+			songs.put(path, compiled);
+		}
+		return compiled;
 	}
 
 }
@@ -2,6 +2,8 @@ package daybreak.abilitywar.utils.base;
 
 public class TimeUtil {
 
+	private static final String[] ticksAsSeconds = new String[20 * 60 * 10];
+
 	public static String parseTimeAsString(int seconds) {
 		int hour = seconds / 3600;
 		seconds -= hour * 3600;
@@ -11,6 +13,27 @@ public class TimeUtil {
 		return (hour != 0 ? hour + "시간 " : "") + (minute != 0 ? minute + "분 " : "") + (seconds >= 0 ? seconds + "초" : "");
 	}
 
+	/**
+	 * 틱을 소수점 둘째 자리까지 내림한 초 문자열로 변환합니다. (예: 30틱 -> "1.5", 41틱 -> "2.05")
+	 * 10분 이하의 값은 한 번 만든 문자열을 재사용합니다.
+	 *
+	 * @param ticks 변환할 틱
+	 */
+	public static String parseTicksAsSeconds(final int ticks) {
+		if (ticks < 0) return String.valueOf(Math.floor(ticks * 5.0) / 100);
+		if (ticks < ticksAsSeconds.length) {
+			final String cached = ticksAsSeconds[ticks];
+			if (cached != null) return cached;
+			return ticksAsSeconds[ticks] = formatTicks(ticks);
+		}
+		return formatTicks(ticks);
+	}
+
+	private static String formatTicks(final int ticks) {
+		final int hundredths = (ticks % 20) * 5;
+		return (ticks / 20) + (hundredths % 10 == 0 ? "." + (hundredths / 10) : (hundredths < 10 ? ".0" : ".") + hundredths);
+	}
+
 	public static int[] parseTime(int seconds) {
 		int[] time = new int[2];
 		time[0] = seconds / 60;
@@ -1,18 +1,20 @@
 package daybreak.abilitywar.utils.base.concurrent;
 
-import daybreak.abilitywar.AbilityWar;
 import daybreak.abilitywar.utils.base.collect.QueueOnIterateHashSet;
-import org.bukkit.Bukkit;
-import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
 
+/**
+ * 틱 단위로 동작하는 타이머입니다.
+ * <p>
+ * 모든 타이머는 하나의 {@link TimerWheel}에서 구동되므로, 타이머마다 {@link org.bukkit.scheduler.BukkitTask}를 생성하지 않습니다.
+ */
 public class SimpleTimer {
 
 	private final TaskType taskType;
 	private QueueOnIterateHashSet<Observer> observers = null;
 
 	private Task task = null;
-	private BukkitTask bukkitTask = null;
+	private TimerWheel.Entry entry = null;
 	private int maximumCount;
 	private int initialDelay = 0;
 	private int period = 20;
@@ -46,11 +48,11 @@ public class SimpleTimer {
 	}
 
 	public boolean isRunning() {
-		return task != null && bukkitTask != null;
+		return task != null && entry != null;
 	}
 
 	public boolean isPaused() {
-		return task != null && bukkitTask == null;
+		return task != null && entry == null;
 	}
 
 	public TaskType getTaskType() {
@@ -92,7 +94,7 @@ public class SimpleTimer {
 	public boolean start() {
 		if (!isRunning()) {
 			this.task = taskType.newRunnable(this, maximumCount);
-			this.bukkitTask = Bukkit.getScheduler().runTaskTimer(AbilityWar.getPlugin(), task, initialDelay, period);
+			this.entry = TimerWheel.INSTANCE.schedule(task, initialDelay, period);
 			if (observers != null) {
 				for (final Observer observer : observers) {
 					observer.onStart();
@@ -107,9 +109,9 @@ public class SimpleTimer {
 	public boolean stop(final boolean silent) {
 		if (isRunning() || isPaused()) {
 			this.task = null;
-			if (bukkitTask != null) {
-				bukkitTask.cancel();
-				this.bukkitTask = null;
+			if (entry != null) {
+				TimerWheel.INSTANCE.cancel(entry);
+				this.entry = null;
 			}
 			if (silent) {
 				if (observers != null) {
@@ -133,8 +135,8 @@ public class SimpleTimer {
 
 	public boolean pause() {
 		if (isRunning()) {
-			bukkitTask.cancel();
-			this.bukkitTask = null;
+			TimerWheel.INSTANCE.cancel(entry);
+			this.entry = null;
 			if (observers != null) {
 				for (final Observer observer : observers) {
 					observer.onPause();
@@ -148,7 +150,7 @@ public class SimpleTimer {
 
 	public boolean resume() {
 		if (isPaused()) {
-			this.bukkitTask = Bukkit.getScheduler().runTaskTimer(AbilityWar.getPlugin(), task, 0, period);
+			this.entry = TimerWheel.INSTANCE.schedule(task, 0, period);
 			if (observers != null) {
 				for (final Observer observer : observers) {
 					observer.onResume();
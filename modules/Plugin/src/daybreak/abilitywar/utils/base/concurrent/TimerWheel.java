@@ -0,0 +1,151 @@
+package daybreak.abilitywar.utils.base.concurrent;
+
+import daybreak.abilitywar.AbilityWar;
+import daybreak.abilitywar.utils.base.logging.Logger;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * 하나의 반복 {@link BukkitTask}로 모든 {@link SimpleTimer}를 구동하는 계층형 타이밍 휠입니다.
+ * <p>
+ * 각 단계는 64개의 슬롯을 가지며, 4단계로 약 2^24틱까지의 지연을 표현합니다. 등록, 해제는 O(1)이며,
+ * 같은 틱에 실행되는 타이머는 등록된 순서대로 실행됩니다.
+ * 등록된 타이머가 없을 때에는 구동 태스크를 중지합니다.
+ */
+final class TimerWheel implements Runnable {
+
+	private static final Logger logger = Logger.getLogger(TimerWheel.class);
+
+	private static final int SLOT_BITS = 6, SLOTS = 1 << SLOT_BITS, SLOT_MASK = SLOTS - 1, LEVELS = 4;
+	private static final long MAX_DELAY = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+	static final TimerWheel INSTANCE = new TimerWheel();
+
+	private final Entry[][] heads = new Entry[LEVELS][SLOTS], tails = new Entry[LEVELS][SLOTS];
+	private long tick = 0;
+	private int size = 0;
+	private BukkitTask driver = null;
+
+	private TimerWheel() {}
+
+	/**
+	 * 태스크를 휠에 등록합니다. {@link org.bukkit.scheduler.BukkitScheduler#runTaskTimer}와 같이
+	 * 0 이하의 지연과 주기는 1틱으로 취급합니다.
+	 */
+	Entry schedule(final Runnable task, final int delay, final int period) {
+		final Entry entry = new Entry(task, Math.max(1, period));
+		entry.deadline = tick + Math.max(1, delay);
+		link(entry);
+		if (size++ == 0 && (driver == null || driver.isCancelled())) {
+			this.driver = Bukkit.getScheduler().runTaskTimer(AbilityWar.getPlugin(), this, 1, 1);
+		}
+		return entry;
+	}
+
+	/**
+	 * 태스크를 휠에서 해제합니다. 실행 중인 태스크 안에서 호출해도 안전합니다.
+	 */
+	void cancel(final Entry entry) {
+		if (!entry.cancelled) {
+			entry.cancelled = true;
+			if (entry.level != -1) {
+				unlink(entry);
+			}
+			size--;
+		}
+	}
+
+	private void link(final Entry entry) {
+		final long delta = Math.min(entry.deadline - tick, MAX_DELAY);
+		int level = 0;
+		while (level < LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+			level++;
+		}
+		final int slot = (int) ((tick + delta) >>> (SLOT_BITS * level)) & SLOT_MASK;
+		entry.level = level;
+		entry.slot = slot;
+		entry.next = null;
+		entry.prev = tails[level][slot];
+		if (entry.prev != null) {
+			entry.prev.next = entry;
+		} else {
+			heads[level][slot] = entry;
+		}
+		tails[level][slot] = entry;
+	}
+
+	private void unlink(final Entry entry) {
+		final int level = entry.level, slot = entry.slot;
+		if (entry.prev != null) {
+			entry.prev.next = entry.next;
+		} else {
+			heads[level][slot] = entry.next;
+		}
+		if (entry.next != null) {
+			entry.next.prev = entry.prev;
+		} else {
+			tails[level][slot] = entry.prev;
+		}
+		entry.prev = entry.next = null;
+		entry.level = -1;
+	}
+
+	private void cascade(final int level, final int slot) {
+		Entry entry = heads[level][slot];
+		heads[level][slot] = tails[level][slot] = null;
+		while (entry != null) {
+			final Entry next = entry.next;
+			link(entry);
+			entry = next;
+		}
+	}
+
+	@Override
+	public void run() {
+		tick++;
+		for (int level = 1; level < LEVELS; level++) {
+			if ((tick & ((1L << (SLOT_BITS * level)) - 1)) != 0) break;
+			cascade(level, (int) (tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+		}
+		final int slot = (int) tick & SLOT_MASK;
+		Entry entry;
+		while ((entry = heads[0][slot]) != null) {
+			unlink(entry);
+			if (entry.deadline > tick) {
+				link(entry);
+				continue;
+			}
+			entry.deadline = tick + entry.period;
+			try {
+				entry.task.run();
+			} catch (Throwable ex) {
+				logger.error("타이머를 실행하는 도중 오류가 발생하였습니다.");
+				ex.printStackTrace();
+			}
+			if (!entry.cancelled && entry.level == -1) {
+				link(entry);
+			}
+		}
+		if (size == 0 && driver != null) {
+			driver.cancel();
+			this.driver = null;
+		}
+	}
+
+	static final class Entry {
+
+		private final Runnable task;
+		private final int period;
+		private long deadline;
+		private int level = -1, slot;
+		private Entry prev, next;
+		private boolean cancelled = false;
+
+		private Entry(final Runnable task, final int period) {
+			this.task = task;
+			this.period = period;
+		}
+
+	}
+
+}
@@ -3,59 +3,46 @@ package daybreak.abilitywar.utils.base.math;
 import daybreak.abilitywar.utils.base.io.FileUtil;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 
+/**
+ * 조회 테이블을 사용하는 삼각함수입니다.
+ * <p>
+ * 한 주기를 2^12개의 구간으로 나눈 float 테이블에서 인접한 두 값을 선형 보간하며, 오차는 4e-7 이하입니다.
+ * 테이블의 크기가 2의 거듭제곱이므로 각도를 주기로 나눈 나머지를 비트 마스크로 구합니다.
+ * 테이블은 16KB로 클래스 초기화 시 바로 계산하며, 디스크 캐시를 사용하지 않습니다.
+ */
 public class FastMath {
 
 	private FastMath() {}
 
-	private static final String CACHE_PATH = "cache/math.cache";
-	private static final int accuracy = (int) Math.pow(10, 5);
-	private static final int length = (int) (6.283185307179586476925286766559 * accuracy);
-	private static final double[] sin;
+	private static final int SIZE_BITS = 12, SIZE = 1 << SIZE_BITS, MASK = SIZE - 1, QUARTER = SIZE >> 2;
+	private static final double SCALE = SIZE / 6.283185307179586476925286766559;
+	private static final float[] sin = new float[SIZE];
 
 	static {
-		final double[] cache = loadCache();
-		if (cache != null) {
-			sin = cache;
-		} else {
-			sin = new double[length];
-			for (int i = 0; i < length; i++) {
-				sin[i] = Math.sin(((double) i + 1) / accuracy);
-			}
-			final File file = FileUtil.newFile(CACHE_PATH);
-			try (final ObjectOutputStream stream = new ObjectOutputStream(new FileOutputStream(file))) {
-				stream.writeObject(sin);
-				stream.flush();
-			} catch (Exception e) {
-				e.printStackTrace();
-			}
+		for (int i = 0; i < SIZE; i++) {
+			sin[i] = (float) Math.sin(i / SCALE);
+		}
+		// 이전 버전에서 사용하던 캐시 파일 정리
+		final File legacyCache = FileUtil.getFile("cache/math.cache");
+		if (legacyCache.exists()) {
+			legacyCache.delete();
 		}
 	}
 
-	private static double[] loadCache() {
-		final File file = FileUtil.getFile(CACHE_PATH);
-		if (file.exists()) {
-			try (final ObjectInputStream stream = new ObjectInputStream(new FileInputStream(file))) {
-				final double[] cache = (double[]) stream.readObject();
-				return cache.length == length ? cache : null;
-			} catch (Exception ignored) {}
-		}
-		return null;
+	private static double lookup(final double index) {
+		final double floor = Math.floor(index);
+		final int i = (int) (long) floor;
+		final float a = sin[i & MASK], b = sin[(i + 1) & MASK];
+		return a + (b - a) * (index - floor);
 	}
 
 	public static double sin(final double a) {
-		final double radians = Math.abs(a) % 6.283185307179586476925286766559;
-		if (a > 0) return sin[Math.max((int) (radians * accuracy) - 1, 0)];
-		else if (a < 0) return -sin[Math.max((int) (radians * accuracy) - 1, 0)];
-		else return 0;
+		return lookup(a * SCALE);
 	}
 
-	public static double cos(double a) {
-		return sin(a + 1.57079632679489661923);
+	public static double cos(final double a) {
+		return lookup(a * SCALE + QUARTER);
 	}
 
 	public static double tan(double a) {
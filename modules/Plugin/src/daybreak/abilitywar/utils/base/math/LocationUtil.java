@@ -6,8 +6,8 @@ import daybreak.abilitywar.game.AbstractGame.CustomEntity;
 import daybreak.abilitywar.game.GameManager;
 import daybreak.abilitywar.utils.base.minecraft.boundary.Boundary.BoundaryData;
 import daybreak.abilitywar.utils.base.minecraft.boundary.BoundingBox;
+import daybreak.abilitywar.utils.base.minecraft.boundary.BoxSnapshot;
 import daybreak.abilitywar.utils.base.minecraft.boundary.CenteredBoundingBox;
-import daybreak.abilitywar.utils.base.minecraft.boundary.EntityBoundingBox;
 import daybreak.abilitywar.utils.base.minecraft.raytrace.RayTrace;
 import daybreak.abilitywar.utils.base.minecraft.version.ServerVersion;
 import org.bukkit.Chunk;
@@ -25,6 +25,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Random;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 public class LocationUtil {
@@ -34,6 +35,12 @@ public class LocationUtil {
 
 	private static final Random random = new Random();
 	private static final double TWO_PI = 6.283185307179586D;
+	/**
+	 * 엔티티 탐색에서 {@link Entity#getLocation(Location)}로 위치를 읽어올 때 재사용하는 {@link Location}입니다.
+	 * 읽은 좌표는 조건을 호출하기 전에 지역 변수로 옮겨 사용하므로, 조건 안에서 다른 탐색을 호출해도 안전합니다.
+	 * 마지막으로 읽은 엔티티의 월드를 붙잡아두지 않도록 탐색이 끝나면 월드를 비웁니다.
+	 */
+	private static final Location scratch = new Location(null, 0, 0, 0);
 
 	public static boolean isInFront(final Entity criterion, final Entity entity) {
 		return dotDirection(criterion, entity) <= 0;
@@ -92,37 +99,49 @@ public class LocationUtil {
 	}
 
 	public static <T extends Entity> List<T> getEntitiesInCircle(Class<T> entityType, Location center, double radius, Predicate<? super T> predicate) {
-		double centerX = center.getX(), centerZ = center.getZ(), SQUARED_RADIUS = radius * radius;
-		List<T> entities = new ArrayList<>();
-		for (Entity e : collectEntities(center, (int) Math.floor(radius))) {
+		final List<T> entities = new ArrayList<>();
+		forEachEntityInCircle(entityType, center, radius, predicate, entities::add);
+		return entities;
+	}
+
+	/**
+	 * 평면상에서 원 안에 있는 특정 타입의 엔티티를 목록을 만들지 않고 consumer에 전달합니다.
+	 *
+	 * @param entityType 탐색할 엔티티 타입
+	 * @param center     중심
+	 * @param radius     원의 반지름
+	 * @param predicate  커스텀 조건
+	 * @param consumer   조건을 만족하는 엔티티를 전달받을 consumer
+	 */
+	public static <T extends Entity> void forEachEntityInCircle(Class<T> entityType, Location center, double radius, Predicate<? super T> predicate, Consumer<? super T> consumer) {
+		final double centerX = center.getX(), centerZ = center.getZ(), squaredRadius = radius * radius;
+		final int range = (int) Math.floor(radius);
+		forEachEntity(center.getWorld(), (center.getBlockX() - range) >> 4, (center.getBlockZ() - range) >> 4, (center.getBlockX() + range) >> 4, (center.getBlockZ() + range) >> 4, e -> {
 			if (entityType.isAssignableFrom(e.getClass())) {
-				@SuppressWarnings("unchecked") T entity = (T) e;
-				Location entityLocation = entity.getLocation();
-				if (distanceSquared2D(centerX, centerZ, entityLocation.getX(), entityLocation.getZ()) <= SQUARED_RADIUS && (predicate == null || predicate.test(entity))) {
-					entities.add(entity);
+				@SuppressWarnings("unchecked") final T entity = (T) e;
+				final Location entityLocation = entity.getLocation(scratch);
+				if (distanceSquared2D(centerX, centerZ, entityLocation.getX(), entityLocation.getZ()) <= squaredRadius && (predicate == null || predicate.test(entity))) {
+					consumer.accept(entity);
 				}
 			}
-		}
-		return entities;
+		});
+		scratch.setWorld(null);
 	}
 
 	public static <T extends Entity> T getEntityLookingAt(final Class<T> entityType, final LivingEntity criterion, final int maxDistance, final double raySize, final Predicate<? super T> predicate) {
 		if (criterion == null || maxDistance <= 0) return null;
 		final World world = criterion.getWorld();
-		final Vector direction = criterion.getLocation().getDirection(), startPos = criterion.getEyeLocation().toVector(), dir = direction.normalize().multiply(maxDistance);
-		final CenteredBoundingBox aabb = CenteredBoundingBox.of(startPos, 0, 0, 0, 0, 0, 0).expandDirectional(dir).expand(raySize);
+		final Vector direction = criterion.getLocation().getDirection().normalize(), startPos = criterion.getEyeLocation().toVector();
+		final double startX = startPos.getX(), startY = startPos.getY(), startZ = startPos.getZ(), dirX = direction.getX(), dirY = direction.getY(), dirZ = direction.getZ();
+		final CenteredBoundingBox aabb = CenteredBoundingBox.of(startPos, 0, 0, 0, 0, 0, 0).expandDirectional(direction.multiply(maxDistance)).expand(raySize);
 		T nearestHitEntity = null;
-		double nearestDistanceSq = Double.MAX_VALUE;
+		double nearestDistance = Double.MAX_VALUE;
 		for (T entity : getConflictingEntities(entityType, world, aabb, null)) {
 			if (criterion.equals(entity)) continue;
-			final EntityBoundingBox boundingBox = EntityBoundingBox.of(entity).expand(raySize);
-			final Vector hitPosition = boundingBox.rayTrace(startPos, direction, maxDistance);
-			if (hitPosition != null && !RayTrace.hitsBlock(world, startPos.getX(), startPos.getY(), startPos.getZ(), hitPosition.getX(), hitPosition.getY(), hitPosition.getZ()) && (predicate == null || predicate.test(entity))) {
-				final double distanceSquared = startPos.distanceSquared(hitPosition);
-				if (distanceSquared < nearestDistanceSq) {
-					nearestHitEntity = entity;
-					nearestDistanceSq = distanceSquared;
-				}
+			final double distance = BoxSnapshot.of(entity, raySize).rayTrace(startX, startY, startZ, dirX, dirY, dirZ, maxDistance);
+			if (distance < nearestDistance && !RayTrace.hitsBlock(world, startX, startY, startZ, startX + dirX * distance, startY + dirY * distance, startZ + dirZ * distance) && (predicate == null || predicate.test(entity))) {
+				nearestHitEntity = entity;
+				nearestDistance = distance;
 			}
 		}
 		return nearestHitEntity;
@@ -137,21 +156,18 @@ public class LocationUtil {
 		final World world = criterion.getWorld();
 		final Vector direction = criterion.getLocation().getDirection(), startPos = criterion.getEyeLocation().toVector(), dir = direction.normalize().multiply(maxDistance);
 		final CenteredBoundingBox aabb = CenteredBoundingBox.of(startPos, 0, 0, 0, 0, 0, 0).expandDirectional(dir).expand(raySize);
-		T nearestHitEntity = null;
-		double nearestDistanceSq = Double.MAX_VALUE;
-		for (T e : getConflictingCustomEntities(entityType, game, world, aabb, null)) {
-			final CustomEntity entity = (CustomEntity) e;
-			final BoundingBox boundingBox = entity.getBoundingBox().copy().expand(raySize);
-			final Vector hitPosition = boundingBox.rayTrace(startPos, direction, maxDistance);
-			if (hitPosition != null && !RayTrace.hitsBlock(world, startPos.getX(), startPos.getY(), startPos.getZ(), hitPosition.getX(), hitPosition.getY(), hitPosition.getZ()) && (predicate == null || predicate.test(entity))) {
+		final Object[] nearestHitEntity = {null};
+		final double[] nearestDistanceSq = {Double.MAX_VALUE};
+		game.getCustomEntityGrid().forEachOnRay(world, startPos, direction, maxDistance, raySize, (entity, hitPosition) -> {
+			if (entityType.isInstance(entity) && aabb.conflicts(entity.getBoundingBox()) && !RayTrace.hitsBlock(world, startPos.getX(), startPos.getY(), startPos.getZ(), hitPosition.getX(), hitPosition.getY(), hitPosition.getZ()) && (predicate == null || predicate.test(entity))) {
 				final double distanceSquared = startPos.distanceSquared(hitPosition);
-				if (distanceSquared < nearestDistanceSq) {
-					nearestHitEntity = e;
-					nearestDistanceSq = distanceSquared;
+				if (distanceSquared < nearestDistanceSq[0]) {
+					nearestHitEntity[0] = entity;
+					nearestDistanceSq[0] = distanceSquared;
 				}
 			}
-		}
-		return nearestHitEntity;
+		});
+		return entityType.cast(nearestHitEntity[0]);
 	}
 
 	public static <T> T getCustomEntityLookingAt(final Class<T> entityType, final AbstractGame game, final LivingEntity criterion, final int maxDistance, final Predicate<CustomEntity> predicate) {
@@ -163,11 +179,12 @@ public class LocationUtil {
 		Preconditions.checkArgument(Objects.equals(world, b.getWorld()), "world of location a and b must be the same.");
 		Preconditions.checkNotNull(world, "world must not be null");
 		final CenteredBoundingBox aabb = CenteredBoundingBox.of(a, b).expand(raySize);
-		final Vector startPos = a.toVector(), direction = b.toVector().subtract(a.toVector());
+		final double startX = a.getX(), startY = a.getY(), startZ = a.getZ(), length = a.distance(b);
+		final double dirX = (b.getX() - startX) / length, dirY = (b.getY() - startY) / length, dirZ = (b.getZ() - startZ) / length;
 		return getConflictingEntities(entityType, world, aabb, new Predicate<T>() {
 			@Override
 			public boolean test(T entity) {
-				return EntityBoundingBox.of(entity).expand(raySize).rayTrace(startPos, direction) != null && (predicate == null || predicate.test(entity));
+				return !Double.isNaN(BoxSnapshot.of(entity, raySize).rayTrace(startX, startY, startZ, dirX, dirY, dirZ, Double.MAX_VALUE)) && (predicate == null || predicate.test(entity));
 			}
 		});
 	}
@@ -243,26 +260,41 @@ public class LocationUtil {
 	 * @param includeAir 참일 경우 블록이 비어있어도 가져옵니다.
 	 */
 	public static List<Block> getBlocks3D(Location center, int radius, boolean hollow, boolean includeAir) {
-		List<Block> blocks = new ArrayList<>();
+		final List<Block> blocks = new ArrayList<>();
+		forEachBlock3D(center, radius, hollow, includeAir, blocks::add);
+		return blocks;
+	}
+
+	/**
+	 * 3차원 공간에서 범위 안에 있는 블록들을 목록을 만들지 않고 하나씩 전달합니다.
+	 * 범위 밖의 좌표는 블록을 가져오기 전에 걸러냅니다.
+	 *
+	 * @param center     중심
+	 * @param radius     범위
+	 * @param hollow     참일 경우 바깥 부분의 블록들만 가져옵니다.
+	 * @param includeAir 참일 경우 블록이 비어있어도 가져옵니다.
+	 */
+	public static void forEachBlock3D(Location center, int radius, boolean hollow, boolean includeAir, Consumer<Block> consumer) {
+		final World world = center.getWorld();
+		final double centerX = center.getX(), centerY = center.getY(), centerZ = center.getZ();
 		final int blockX = center.getBlockX(), blockY = center.getBlockY(), blockZ = center.getBlockZ();
+		final int outer = radius * radius, inner = (radius - 1) * (radius - 1);
 		for (int x = blockX - radius; x <= blockX + radius; x++) {
+			final double dx = FastMath.square(centerX - x);
 			for (int y = blockY - radius; y <= blockY + radius; y++) {
+				final double dxy = dx + FastMath.square(centerY - y);
+				if (dxy > outer) continue;
 				for (int z = blockZ - radius; z <= blockZ + radius; z++) {
-					final Block block = center.getWorld().getBlockAt(x, y, z);
-					final double distanceSquared = center.distanceSquared(block.getLocation());
-					if (distanceSquared <= (radius * radius) && !(hollow && distanceSquared < ((radius - 1) * (radius - 1)))) {
-						if (block.isEmpty()) {
-							if (includeAir) {
-								blocks.add(block);
-							}
-						} else {
-							blocks.add(block);
+					final double distanceSquared = dxy + FastMath.square(centerZ - z);
+					if (distanceSquared <= outer && !(hollow && distanceSquared < inner)) {
+						final Block block = world.getBlockAt(x, y, z);
+						if (includeAir || !block.isEmpty()) {
+							consumer.accept(block);
 						}
 					}
 				}
 			}
 		}
-		return blocks;
 	}
 
 	/**
@@ -274,25 +306,38 @@ public class LocationUtil {
 	 * @param floorBlocks   참일 경우 각 위치에서 중심의 y 좌표를 참조값으로 {@link #getFloorYAt}을 호출한 위치의 블록을 받아옵니다. 이 경우 모든 블록이 같은 평면 위에 있지 않을 수 있습니다.
 	 */
 	public static List<Block> getBlocks2D(Location center, int radius, boolean hollow, boolean floorBlocks, boolean includeAir) {
-		List<Block> blocks = new ArrayList<>();
-		final int blockX = center.getBlockX(), blockZ = center.getBlockZ();
+		final List<Block> blocks = new ArrayList<>();
+		forEachBlock2D(center, radius, hollow, floorBlocks, includeAir, blocks::add);
+		return blocks;
+	}
+
+	/**
+	 * 평면상에서 범위 안에 있는 블록들을 목록을 만들지 않고 하나씩 전달합니다.
+	 * 범위 밖의 좌표는 블록을 가져오거나 {@link #getFloorYAt}을 호출하기 전에 걸러냅니다.
+	 *
+	 * @param center        중심
+	 * @param radius        범위
+	 * @param hollow        참일 경우 바깥 부분의 블록들만 가져옵니다.
+	 * @param floorBlocks   참일 경우 각 위치에서 중심의 y 좌표를 참조값으로 {@link #getFloorYAt}을 호출한 위치의 블록을 받아옵니다. 이 경우 모든 블록이 같은 평면 위에 있지 않을 수 있습니다.
+	 */
+	public static void forEachBlock2D(Location center, int radius, boolean hollow, boolean floorBlocks, boolean includeAir, Consumer<Block> consumer) {
+		final World world = center.getWorld();
+		final double centerX = center.getX(), centerY = center.getY(), centerZ = center.getZ();
+		final int blockX = center.getBlockX(), blockY = center.getBlockY(), blockZ = center.getBlockZ();
+		final int outer = radius * radius, inner = (radius - 1) * (radius - 1);
 		for (int x = blockX - radius; x <= blockX + radius; x++) {
+			final double dx = FastMath.square(centerX - x);
+			if (dx > outer) continue;
 			for (int z = blockZ - radius; z <= blockZ + radius; z++) {
-				final Block block = center.getWorld().getBlockAt(x, floorBlocks ? getFloorYAt(center.getWorld(), center.getY(), x, z) : center.getBlockY(), z);
-				final Location blockLocation = block.getLocation();
-				final double distance = FastMath.square(center.getX() - blockLocation.getX()) + FastMath.square(center.getZ() - blockLocation.getZ());
-				if (distance <= (radius * radius) && !(hollow && distance < ((radius - 1) * (radius - 1)))) {
-					if (block.isEmpty()) {
-						if (includeAir) {
-							blocks.add(block);
-						}
-					} else {
-						blocks.add(block);
+				final double distance = dx + FastMath.square(centerZ - z);
+				if (distance <= outer && !(hollow && distance < inner)) {
+					final Block block = world.getBlockAt(x, floorBlocks ? getFloorYAt(world, centerY, x, z) : blockY, z);
+					if (includeAir || !block.isEmpty()) {
+						consumer.accept(block);
 					}
 				}
 			}
 		}
-		return blocks;
 	}
 
 	public static Location getRandomLocation(Location center, double radius) {
@@ -389,19 +434,58 @@ public class LocationUtil {
 	 * @return 엔티티 목록
 	 */
 	public static Entity[] collectEntities(Location center, int horizontal) {
-		Entity[] entities = new Entity[0];
-		final World world = center.getWorld();
-		final int maxX = (center.getBlockX() + horizontal) >> 4, maxZ = (center.getBlockZ() + horizontal) >> 4;
-		for (int x = (center.getBlockX() - horizontal) >> 4; x <= maxX; x++) {
-			for (int z = (center.getBlockZ() - horizontal) >> 4; z <= maxZ; z++) {
-				final Entity[] chunkEntities = world.getChunkAt(x, z).getEntities();
-				final Entity[] newEntities = new Entity[entities.length + chunkEntities.length];
-				System.arraycopy(entities, 0, newEntities, 0, entities.length);
-				System.arraycopy(chunkEntities, 0, newEntities, entities.length, chunkEntities.length);
-				entities = newEntities;
+		return collectEntities(center, horizontal, false);
+	}
+
+	/**
+	 * 일정 범위 내에 있는 청크들의 엔티티 목록을 반환합니다.
+	 *
+	 * @param center     중점
+	 * @param horizontal 수평 거리
+	 * @param loadChunks 참일 경우 로드되지 않은 청크를 로드하여 확인합니다.
+	 * @return 엔티티 목록
+	 */
+	public static Entity[] collectEntities(Location center, int horizontal, boolean loadChunks) {
+		final List<Entity> entities = new ArrayList<>();
+		forEachEntity(center.getWorld(), (center.getBlockX() - horizontal) >> 4, (center.getBlockZ() - horizontal) >> 4, (center.getBlockX() + horizontal) >> 4, (center.getBlockZ() + horizontal) >> 4, loadChunks, entities::add);
+		return entities.toArray(new Entity[0]);
+	}
+
+	/**
+	 * 청크 좌표 범위 안에 있는 로드된 청크들의 엔티티를 배열을 이어 붙이지 않고 consumer에 전달합니다.
+	 * 로드되지 않은 청크는 건너뜁니다.
+	 *
+	 * @param world    월드
+	 * @param minX     청크 X 좌표 중 가장 작은 값
+	 * @param minZ     청크 Z 좌표 중 가장 작은 값
+	 * @param maxX     청크 X 좌표 중 가장 큰 값
+	 * @param maxZ     청크 Z 좌표 중 가장 큰 값
+	 * @param consumer 엔티티를 전달받을 consumer
+	 */
+	public static void forEachEntity(World world, int minX, int minZ, int maxX, int maxZ, Consumer<? super Entity> consumer) {
+		forEachEntity(world, minX, minZ, maxX, maxZ, false, consumer);
+	}
+
+	/**
+	 * 청크 좌표 범위 안에 있는 청크들의 엔티티를 배열을 이어 붙이지 않고 consumer에 전달합니다.
+	 *
+	 * @param world      월드
+	 * @param minX       청크 X 좌표 중 가장 작은 값
+	 * @param minZ       청크 Z 좌표 중 가장 작은 값
+	 * @param maxX       청크 X 좌표 중 가장 큰 값
+	 * @param maxZ       청크 Z 좌표 중 가장 큰 값
+	 * @param loadChunks 참일 경우 로드되지 않은 청크를 메인 스레드에서 로드하여 확인합니다.
+	 * @param consumer   엔티티를 전달받을 consumer
+	 */
+	public static void forEachEntity(World world, int minX, int minZ, int maxX, int maxZ, boolean loadChunks, Consumer<? super Entity> consumer) {
+		for (int x = minX; x <= maxX; x++) {
+			for (int z = minZ; z <= maxZ; z++) {
+				if (!loadChunks && !world.isChunkLoaded(x, z)) continue;
+				for (Entity entity : world.getChunkAt(x, z).getEntities()) {
+					consumer.accept(entity);
+				}
 			}
 		}
-		return entities;
 	}
 
 	/**
@@ -414,13 +498,7 @@ public class LocationUtil {
 	public static List<CustomEntity> collectCustomEntities(Location center, int horizontal) {
 		final List<CustomEntity> entities = new ArrayList<>();
 		if (GameManager.isGameRunning()) {
-			final World world = center.getWorld();
-			final int maxX = (center.getBlockX() + horizontal) >> 4, maxZ = (center.getBlockZ() + horizontal) >> 4;
-			for (int x = (center.getBlockX() - horizontal) >> 4; x <= maxX; x++) {
-				for (int z = (center.getBlockZ() - horizontal) >> 4; z <= maxZ; z++) {
-					entities.addAll(GameManager.getGame().getCustomEntities(world.getChunkAt(x, z)));
-				}
-			}
+			GameManager.getGame().getCustomEntityGrid().forEach(center.getWorld(), (center.getBlockX() - horizontal) >> 4, (center.getBlockZ() - horizontal) >> 4, (center.getBlockX() + horizontal) >> 4, (center.getBlockZ() + horizontal) >> 4, entities::add);
 		}
 		return entities;
 	}
@@ -436,18 +514,9 @@ public class LocationUtil {
 	 * @return 엔티티 목록
 	 */
 	public static Entity[] collectEntities(Chunk center, int minX, int minZ, int maxX, int maxZ) {
-		Entity[] entities = new Entity[0];
-		final World world = center.getWorld();
-		for (int x = minX; x <= maxX; x++) {
-			for (int z = minZ; z <= maxZ; z++) {
-				final Entity[] chunkEntities = world.getChunkAt(x, z).getEntities();
-				final Entity[] newEntities = new Entity[entities.length + chunkEntities.length];
-				System.arraycopy(entities, 0, newEntities, 0, entities.length);
-				System.arraycopy(chunkEntities, 0, newEntities, entities.length, chunkEntities.length);
-				entities = newEntities;
-			}
-		}
-		return entities;
+		final List<Entity> entities = new ArrayList<>();
+		forEachEntity(center.getWorld(), minX, minZ, maxX, maxZ, false, entities::add);
+		return entities.toArray(new Entity[0]);
 	}
 
 	/**
@@ -461,18 +530,34 @@ public class LocationUtil {
 	 * @return 주변에 있는 특정 타입의 엔티티 목록
 	 */
 	public static <T extends Entity> List<T> getNearbyEntities(Class<T> entityType, Location center, double horizontal, double vertical, Predicate<? super T> predicate) {
-		final double centerX = center.getX(), centerZ = center.getZ();
 		final List<T> entities = new ArrayList<>();
-		for (Entity e : collectEntities(center, (int) Math.floor(horizontal))) {
+		forEachNearbyEntity(entityType, center, horizontal, vertical, predicate, entities::add);
+		return entities;
+	}
+
+	/**
+	 * 주변에 있는 특정 타입의 엔티티를 목록을 만들지 않고 consumer에 전달합니다.
+	 *
+	 * @param entityType 탐색할 엔티티 타입
+	 * @param center     중점
+	 * @param horizontal 수평 거리
+	 * @param vertical   수직 거리
+	 * @param predicate  커스텀 조건
+	 * @param consumer   조건을 만족하는 엔티티를 전달받을 consumer
+	 */
+	public static <T extends Entity> void forEachNearbyEntity(Class<T> entityType, Location center, double horizontal, double vertical, Predicate<? super T> predicate, Consumer<? super T> consumer) {
+		final double centerX = center.getX(), centerY = center.getY(), centerZ = center.getZ(), squaredHorizontal = horizontal * horizontal;
+		final int range = (int) Math.floor(horizontal);
+		forEachEntity(center.getWorld(), (center.getBlockX() - range) >> 4, (center.getBlockZ() - range) >> 4, (center.getBlockX() + range) >> 4, (center.getBlockZ() + range) >> 4, e -> {
 			if (entityType.isAssignableFrom(e.getClass())) {
-				@SuppressWarnings("unchecked") T entity = (T) e;
-				Location entityLocation = entity.getLocation();
-				if (distanceSquared2D(centerX, centerZ, entityLocation.getX(), entityLocation.getZ()) <= (horizontal * horizontal) && NumberUtil.subtract(center.getY(), entityLocation.getY()) <= vertical && (predicate == null || predicate.test(entity))) {
-					entities.add(entity);
+				@SuppressWarnings("unchecked") final T entity = (T) e;
+				final Location entityLocation = entity.getLocation(scratch);
+				if (distanceSquared2D(centerX, centerZ, entityLocation.getX(), entityLocation.getZ()) <= squaredHorizontal && NumberUtil.subtract(centerY, entityLocation.getY()) <= vertical && (predicate == null || predicate.test(entity))) {
+					consumer.accept(entity);
 				}
 			}
-		}
-		return entities;
+		});
+		scratch.setWorld(null);
 	}
 
 	/**
@@ -487,14 +572,17 @@ public class LocationUtil {
 	 */
 	@SuppressWarnings("unchecked")
 	public static <T> List<T> getNearbyCustomEntities(Class<T> entityType, Location center, double horizontal, double vertical, Predicate<CustomEntity> predicate) {
-		final double centerX = center.getX(), centerZ = center.getZ();
+		final double centerX = center.getX(), centerY = center.getY(), centerZ = center.getZ();
 		final List<T> entities = new ArrayList<>();
-		for (CustomEntity e : collectCustomEntities(center, (int) Math.floor(horizontal))) {
-			if (entityType.isAssignableFrom(e.getClass())) {
-				if (distanceSquared2D(centerX, centerZ, e.x(), e.z()) <= (horizontal * horizontal) && NumberUtil.subtract(center.getY(), e.y()) <= vertical && (predicate == null || predicate.test(e))) {
-					entities.add((T) e);
+		if (GameManager.isGameRunning()) {
+			final int blockX = center.getBlockX(), blockZ = center.getBlockZ(), range = (int) Math.floor(horizontal);
+			GameManager.getGame().getCustomEntityGrid().forEach(center.getWorld(), (blockX - range) >> 4, (blockZ - range) >> 4, (blockX + range) >> 4, (blockZ + range) >> 4, e -> {
+				if (entityType.isAssignableFrom(e.getClass())) {
+					if (distanceSquared2D(centerX, centerZ, e.x(), e.z()) <= (horizontal * horizontal) && NumberUtil.subtract(centerY, e.y()) <= vertical && (predicate == null || predicate.test(e))) {
+						entities.add((T) e);
+					}
 				}
-			}
+			});
 		}
 		return entities;
 	}
@@ -509,64 +597,68 @@ public class LocationUtil {
 
 	public static <T extends Entity> List<T> getConflictingEntities(@NotNull Class<T> entityType, @NotNull final World world, @NotNull BoundingBox boundingBox, @Nullable Predicate<? super T> predicate) {
 		final List<T> entities = new ArrayList<>();
-		final Chunk minChunk = world.getChunkAt(((int) boundingBox.getMinX()) >> 4, ((int) boundingBox.getMinZ()) >> 4), maxChunk = world.getChunkAt(((int) boundingBox.getMaxX()) >> 4, ((int) boundingBox.getMaxZ()) >> 4);
-		final int minX = minChunk.getX(), maxX = maxChunk.getX(), minZ = minChunk.getZ(), maxZ = maxChunk.getZ();
-		for (int x = minX; x <= maxX; x++) {
-			for (int z = minZ; z <= maxZ; z++) {
-				for (Entity e : world.getChunkAt(x, z).getEntities()) {
-					if (entityType.isAssignableFrom(e.getClass())) {
-						final T entity = entityType.cast(e);
-						if (boundingBox.conflicts(entity) && (predicate == null || predicate.test(entity))) {
-							entities.add(entity);
-						}
-					}
+		forEachConflictingEntity(entityType, world, boundingBox, predicate, entities::add);
+		return entities;
+	}
+
+	/**
+	 * {@link BoundingBox}와 충돌하는 특정 타입의 엔티티를 목록을 만들지 않고 consumer에 전달합니다.
+	 * 바운딩 박스의 좌표는 탐색을 시작할 때 한 번만 계산합니다.
+	 */
+	public static <T extends Entity> void forEachConflictingEntity(@NotNull Class<T> entityType, @NotNull final World world, @NotNull BoundingBox boundingBox, @Nullable Predicate<? super T> predicate, @NotNull Consumer<? super T> consumer) {
+		final double minX = boundingBox.getMinX(), minY = boundingBox.getMinY(), minZ = boundingBox.getMinZ(), maxX = boundingBox.getMaxX(), maxY = boundingBox.getMaxY(), maxZ = boundingBox.getMaxZ();
+		forEachEntity(world, ((int) minX) >> 4, ((int) minZ) >> 4, ((int) maxX) >> 4, ((int) maxZ) >> 4, e -> {
+			if (entityType.isAssignableFrom(e.getClass())) {
+				final T entity = entityType.cast(e);
+				final BoundaryData data = BoundaryData.of(entity.getType());
+				final Location entityLocation = entity.getLocation(scratch);
+				final double entityX = entityLocation.getX(), entityY = entityLocation.getY(), entityZ = entityLocation.getZ();
+				if (entityX + data.getMinX() < maxX && minX < entityX + data.getMaxX() && entityY + data.getMinY() < maxY &&
+						minY < entityY + data.getMaxY() && entityZ + data.getMinZ() < maxZ && minZ < entityZ + data.getMaxZ() &&
+						(predicate == null || predicate.test(entity))) {
+					consumer.accept(entity);
 				}
 			}
-		}
-		return entities;
+		});
+		scratch.setWorld(null);
 	}
 
 	public static <T extends Entity> List<T> getConflictingEntities(Class<T> entityType, Entity base, Predicate<? super T> predicate) {
 		final List<T> entities = new ArrayList<>();
-		final World world = base.getWorld();
-		final Location center = base.getLocation();
+		forEachConflictingEntity(entityType, base, predicate, entities::add);
+		return entities;
+	}
+
+	/**
+	 * 기준 엔티티와 충돌하는 특정 타입의 엔티티를 목록을 만들지 않고 consumer에 전달합니다.
+	 */
+	public static <T extends Entity> void forEachConflictingEntity(Class<T> entityType, Entity base, Predicate<? super T> predicate, Consumer<? super T> consumer) {
+		final Location center = base.getLocation(scratch);
 		final BoundaryData baseBoundary = BoundaryData.of(base.getType());
-		final Chunk minChunk = world.getChunkAt(((int) (center.getX() + baseBoundary.getMinX())) >> 4, ((int) (center.getZ() + baseBoundary.getMinZ())) >> 4), maxChunk = world.getChunkAt(((int) (center.getX() + baseBoundary.getMaxX())) >> 4, ((int) (center.getZ() + baseBoundary.getMaxZ())) >> 4);
-		final int minX = minChunk.getX(), maxX = maxChunk.getX(), minZ = minChunk.getZ(), maxZ = maxChunk.getZ();
 		final double baseMinX = baseBoundary.getMinX() + center.getX(), baseMinY = baseBoundary.getMinY() + center.getY(), baseMinZ = baseBoundary.getMinZ() + center.getZ(), baseMaxX = baseBoundary.getMaxX() + center.getX(), baseMaxY = baseBoundary.getMaxY() + center.getY(), baseMaxZ = baseBoundary.getMaxZ() + center.getZ();
-		for (int x = minX; x <= maxX; x++) {
-			for (int z = minZ; z <= maxZ; z++) {
-				for (Entity e : world.getChunkAt(x, z).getEntities()) {
-					if (entityType.isAssignableFrom(e.getClass())) {
-						final T entity = entityType.cast(e);
-						final BoundaryData boundaryData = BoundaryData.of(entity.getType());
-						final Location entityLocation = entity.getLocation();
-						final double entityX = entityLocation.getX(), entityY = entityLocation.getY(), entityZ = entityLocation.getZ();
-						if (entityX + boundaryData.getMinX() < baseMaxX && baseMinX < entityX + boundaryData.getMaxX() && entityY + boundaryData.getMinY() < baseMaxY &&
-								baseMinY < entityY + boundaryData.getMaxY() && entityZ + boundaryData.getMinZ() < baseMaxZ && baseMinZ < entityZ + boundaryData.getMaxZ() &&
-								(predicate == null || predicate.test(entity))) {
-							entities.add(entity);
-						}
-					}
+		forEachEntity(base.getWorld(), ((int) baseMinX) >> 4, ((int) baseMinZ) >> 4, ((int) baseMaxX) >> 4, ((int) baseMaxZ) >> 4, e -> {
+			if (entityType.isAssignableFrom(e.getClass())) {
+				final T entity = entityType.cast(e);
+				final BoundaryData boundaryData = BoundaryData.of(entity.getType());
+				final Location entityLocation = entity.getLocation(scratch);
+				final double entityX = entityLocation.getX(), entityY = entityLocation.getY(), entityZ = entityLocation.getZ();
+				if (entityX + boundaryData.getMinX() < baseMaxX && baseMinX < entityX + boundaryData.getMaxX() && entityY + boundaryData.getMinY() < baseMaxY &&
+						baseMinY < entityY + boundaryData.getMaxY() && entityZ + boundaryData.getMinZ() < baseMaxZ && baseMinZ < entityZ + boundaryData.getMaxZ() &&
+						(predicate == null || predicate.test(entity))) {
+					consumer.accept(entity);
 				}
 			}
-		}
-		return entities;
+		});
+		scratch.setWorld(null);
 	}
 
 	public static <T> List<T> getConflictingCustomEntities(@NotNull Class<T> entityType, @NotNull final AbstractGame game, @NotNull final World world, @NotNull BoundingBox boundingBox, @Nullable Predicate<CustomEntity> predicate) {
 		final List<T> entities = new ArrayList<>();
-		final Chunk minChunk = world.getChunkAt(((int) boundingBox.getMinX()) >> 4, ((int) boundingBox.getMinZ()) >> 4), maxChunk = world.getChunkAt(((int) boundingBox.getMaxX()) >> 4, ((int) boundingBox.getMaxZ()) >> 4);
-		final int minX = minChunk.getX(), maxX = maxChunk.getX(), minZ = minChunk.getZ(), maxZ = maxChunk.getZ();
-		for (int x = minX; x <= maxX; x++) {
-			for (int z = minZ; z <= maxZ; z++) {
-				for (CustomEntity e : game.getCustomEntities(world.getChunkAt(x, z))) {
-					if (entityType.isAssignableFrom(e.getClass()) && boundingBox.conflicts(e.getBoundingBox()) && (predicate == null || predicate.test(e))) {
-						entities.add(entityType.cast(e));
-					}
-				}
+		game.getCustomEntityGrid().forEachConflicting(world, boundingBox, e -> {
+			if (entityType.isAssignableFrom(e.getClass()) && (predicate == null || predicate.test(e))) {
+				entities.add(entityType.cast(e));
 			}
-		}
+		});
 		return entities;
 	}
 
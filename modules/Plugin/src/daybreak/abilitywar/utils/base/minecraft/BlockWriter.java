@@ -0,0 +1,103 @@
+package daybreak.abilitywar.utils.base.minecraft;
+
+import daybreak.abilitywar.AbilityWar;
+import daybreak.abilitywar.config.Configuration.Settings;
+import daybreak.abilitywar.utils.library.BlockX;
+import daybreak.abilitywar.utils.library.MaterialX;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.block.Block;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 넓은 범위의 블록을 한 번에 변경할 때 사용하는 블록 쓰기 대기열입니다.
+ * <p>
+ * 변경할 블록은 청크 섹션(16x16x16) 단위로 묶어 보관하며, 매 틱마다 설정된 시간 안에서 섹션 단위로 물리 연산 없이 적용합니다.
+ * 한 섹션의 변경은 항상 같은 틱에 적용되므로, 서버가 섹션마다 하나의 다중 블록 변경 패킷으로 묶어 전송합니다.
+ * 같은 블록을 여러 번 변경하면 마지막 변경만 적용됩니다.
+ */
+public final class BlockWriter {
+
+	private final Map<Long, Map<Block, Consumer<Block>>> sections = new LinkedHashMap<>();
+	private BukkitTask task = null;
+	private int pending = 0;
+
+	private static long section(final Block block) {
+		return (((long) (block.getX() >> 4) & 0x3FFFFF) << 42) | (((long) (block.getZ() >> 4) & 0x3FFFFF) << 20) | ((block.getY() >> 4) & 0xFFFFF);
+	}
+
+	public void setType(final @NotNull Block block, final @NotNull Material type) {
+		queue(block, target -> target.setType(type, false));
+	}
+
+	public void setType(final @NotNull Block block, final @NotNull MaterialX type) {
+		queue(block, target -> BlockX.setType(target, type, false));
+	}
+
+	private void queue(final Block block, final Consumer<Block> write) {
+		if (sections.computeIfAbsent(section(block), key -> new LinkedHashMap<>()).put(block, write) == null) {
+			pending++;
+		}
+		if (task == null) {
+			this.task = Bukkit.getScheduler().runTaskTimer(AbilityWar.getPlugin(), () -> {
+				write(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Settings.getBlockWriteBudget()));
+				if (sections.isEmpty()) cancelTask();
+			}, 0, 1);
+		}
+	}
+
+	/**
+	 * 주어진 시각까지 섹션 단위로 변경을 적용합니다. 한 번 호출될 때마다 최소 하나의 섹션은 적용합니다.
+	 */
+	private void write(final long deadline) {
+		final Iterator<Map<Block, Consumer<Block>>> iterator = sections.values().iterator();
+		while (iterator.hasNext()) {
+			final Map<Block, Consumer<Block>> writes = iterator.next();
+			iterator.remove();
+			for (final Map.Entry<Block, Consumer<Block>> entry : writes.entrySet()) {
+				entry.getValue().accept(entry.getKey());
+			}
+			pending -= writes.size();
+			if (System.nanoTime() >= deadline) break;
+		}
+	}
+
+	/**
+	 * 적용되지 않은 변경의 수를 반환합니다.
+	 */
+	public int getPending() {
+		return pending;
+	}
+
+	/**
+	 * 적용되지 않은 모든 변경을 즉시 적용합니다.
+	 */
+	public void flush() {
+		write(Long.MAX_VALUE);
+		cancelTask();
+	}
+
+	/**
+	 * 적용되지 않은 모든 변경을 버립니다.
+	 */
+	public void clear() {
+		sections.clear();
+		this.pending = 0;
+		cancelTask();
+	}
+
+	private void cancelTask() {
+		if (task != null) {
+			task.cancel();
+			this.task = null;
+		}
+	}
+
+}
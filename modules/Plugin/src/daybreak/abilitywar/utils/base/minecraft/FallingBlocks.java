@@ -9,12 +9,14 @@ import org.bukkit.Material;
 import org.bukkit.block.Block;
 import org.bukkit.entity.FallingBlock;
 import org.bukkit.event.EventHandler;
-import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityChangeBlockEvent;
-import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.util.Vector;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * FallingBlock을 더욱 편하게 사용하기 위해 만든 유틸입니다.
  *
@@ -29,27 +31,7 @@ public class FallingBlocks {
 			fallingBlock = location.getWorld().spawnFallingBlock(location, type.createBlockData());
 		else fallingBlock = location.getWorld().spawnFallingBlock(location, type, data);
 		if (behavior != null) {
-			final BlockHandler handler = new BlockHandler() {
-				@Override
-				public void run() {
-					if (!fallingBlock.isValid()) {
-						unregister();
-					}
-				}
-
-				@EventHandler
-				public void onEntityChangeBlock(final EntityChangeBlockEvent event) {
-					if (event.getEntity().equals(fallingBlock)) {
-						if (!behavior.onEntityChangeBlock(fallingBlock, event)) {
-							event.setCancelled(true);
-							event.getEntity().remove();
-						}
-						unregister();
-					}
-				}
-			};
-			handler.runTaskTimer(AbilityWar.getPlugin(), 0L, 200L);
-			Bukkit.getPluginManager().registerEvents(handler, AbilityWar.getPlugin());
+			Tracker.INSTANCE.track(fallingBlock, behavior);
 		}
 
 		fallingBlock.setGlowing(glowing);
@@ -123,11 +105,68 @@ public class FallingBlocks {
 
 	}
 
-	private abstract static class BlockHandler extends BukkitRunnable implements Listener {
+	/**
+	 * {@link Behavior}가 지정된 FallingBlock의 수를 반환합니다.
+	 */
+	public static int getTrackedCount() {
+		return Tracker.INSTANCE.tracked.size();
+	}
+
+	/**
+	 * {@link Behavior}가 지정된 모든 FallingBlock을 엔티티 ID로 관리합니다.
+	 * 하나의 리스너로 {@link EntityChangeBlockEvent}를 받아 처리하고, 하나의 태스크로 사라진 엔티티를 정리합니다.
+	 */
+	private static final class Tracker implements Listener, Runnable {
+
+		private static final Tracker INSTANCE = new Tracker();
+		private static final long SWEEP_PERIOD = 200L;
+
+		private final Map<Integer, Tracked> tracked = new HashMap<>();
+		private boolean registered = false;
+		private BukkitTask sweeper = null;
+
+		private Tracker() {}
+
+		private void track(final FallingBlock fallingBlock, final Behavior behavior) {
+			if (!registered) {
+				Bukkit.getPluginManager().registerEvents(this, AbilityWar.getPlugin());
+				this.registered = true;
+			}
+			tracked.put(fallingBlock.getEntityId(), new Tracked(fallingBlock, behavior));
+			if (sweeper == null) {
+				this.sweeper = Bukkit.getScheduler().runTaskTimer(AbilityWar.getPlugin(), this, SWEEP_PERIOD, SWEEP_PERIOD);
+			}
+		}
+
+		@EventHandler
+		private void onEntityChangeBlock(final EntityChangeBlockEvent event) {
+			if (tracked.isEmpty()) return;
+			final Tracked entry = tracked.remove(event.getEntity().getEntityId());
+			if (entry != null && !entry.behavior.onEntityChangeBlock(entry.fallingBlock, event)) {
+				event.setCancelled(true);
+				event.getEntity().remove();
+			}
+		}
+
+		@Override
+		public void run() {
+			tracked.values().removeIf(entry -> !entry.fallingBlock.isValid());
+			if (tracked.isEmpty()) {
+				sweeper.cancel();
+				this.sweeper = null;
+			}
+		}
+
+		private static final class Tracked {
+
+			private final FallingBlock fallingBlock;
+			private final Behavior behavior;
+
+			private Tracked(final FallingBlock fallingBlock, final Behavior behavior) {
+				this.fallingBlock = fallingBlock;
+				this.behavior = behavior;
+			}
 
-		protected void unregister() {
-			HandlerList.unregisterAll(this);
-			cancel();
 		}
 
 	}
@@ -1,58 +1,84 @@
 package daybreak.abilitywar.utils.base.minecraft;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import daybreak.abilitywar.utils.base.io.FileUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.net.URL;
-import java.nio.charset.StandardCharsets;
-import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
 
 /**
  * Mojang API Wrapper
+ * <p>
+ * 조회 결과는 {@link MojangProfileStore}를 통해 plugins/AbilityWar/cache/mojang.json에 저장됩니다.
+ * 메인 스레드에서는 블로킹 메소드 대신 {@code Async}로 끝나는 메소드를 사용하세요.
  *
  * @author Daybreak 새벽
  */
 public class MojangAPI {
 
+	private static final MojangProfileStore store = new MojangProfileStore(
+			FileUtil.getFile("cache/mojang.json"),
+			MojangProfileStore.DEFAULT_API_URL,
+			MojangProfileStore.DEFAULT_SESSION_URL,
+			Executors.newFixedThreadPool(4, new ThreadFactoryBuilder().setNameFormat("AbilityWar-MojangAPI-%d").setDaemon(true).build())
+	);
+
 	private MojangAPI() {
 	}
 
-	public static String getNickname(String uuid) throws IOException {
-		final StringBuilder response = new StringBuilder();
-		try (final BufferedReader reader = new BufferedReader(new InputStreamReader(new URL("https://sessionserver.mojang.com/session/minecraft/profile/" + uuid).openStream(), StandardCharsets.UTF_8))) {
-			String line;
-			while ((line = reader.readLine()) != null) {
-				response.append(line);
-			}
-		}
-		final JsonObject object = JsonParser.parseString(response.toString()).getAsJsonObject();
-		return object.get("name").getAsString();
+	public static @NotNull CompletableFuture<String> getNicknameAsync(final @NotNull String uuid) {
+		return store.getNickname(uuid);
+	}
+
+	public static @NotNull CompletableFuture<String> getUniqueIdAsync(final @NotNull String name) {
+		return store.getUniqueId(name);
+	}
+
+	public static @NotNull CompletableFuture<SkinInfo> getSkinAsync(final @NotNull String name) {
+		return store.getSkin(name);
+	}
+
+	public static @NotNull CompletableFuture<SkinInfo> getSkinByUniqueIdAsync(final @NotNull String uuid) {
+		return store.getSkinByUniqueId(uuid);
+	}
+
+	/**
+	 * 저장된 스킨이 있으면 바로 반환하고, 없으면 백그라운드에서 불러오기 시작한 후 null을 반환합니다.
+	 */
+	public static @Nullable SkinInfo getSkinNow(final @NotNull String name) {
+		final CompletableFuture<SkinInfo> future = getSkinAsync(name);
+		return future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
 	}
 
-	private static final Cache<String, SkinInfo> skins = CacheBuilder.newBuilder()
-			.expireAfterAccess(Duration.ofMinutes(30))
-			.build();
+	/**
+	 * 저장된 값이 없을 경우 응답을 받을 때까지 스레드를 막습니다. 메인 스레드에서는 {@link #getNicknameAsync(String)}를 사용하세요.
+	 */
+	public static String getNickname(String uuid) throws IOException {
+		return join(getNicknameAsync(uuid));
+	}
 
+	/**
+	 * 저장된 값이 없을 경우 응답을 받을 때까지 스레드를 막습니다. 메인 스레드에서는 {@link #getSkinAsync(String)}를 사용하세요.
+	 */
 	public static SkinInfo getSkin(String name) throws IOException {
-		final SkinInfo cachedSkin = skins.getIfPresent(name);
-		if (cachedSkin != null) return cachedSkin;
-		final URL url0 = new URL("https://api.mojang.com/users/profiles/minecraft/" + name);
-		final InputStreamReader reader_0 = new InputStreamReader(url0.openStream());
-		final String uuid = JsonParser.parseReader(reader_0).getAsJsonObject().get("id").getAsString();
-
-		final URL url1 = new URL("https://sessionserver.mojang.com/session/minecraft/profile/" + uuid + "?unsigned=false");
-		final InputStreamReader reader_1 = new InputStreamReader(url1.openStream());
-		final JsonObject textureProperty = JsonParser.parseReader(reader_1).getAsJsonObject().get("properties").getAsJsonArray().get(0).getAsJsonObject();
-		final String texture = textureProperty.get("value").getAsString();
-		final String signature = textureProperty.get("signature").getAsString();
-		final SkinInfo info = new SkinInfo(name, texture, signature);
-		skins.put(name, info);
-		return info;
+		return join(getSkinAsync(name));
+	}
+
+	private static <T> T join(final CompletableFuture<T> future) throws IOException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException(e);
+		} catch (ExecutionException e) {
+			final Throwable cause = e.getCause();
+			if (cause instanceof IOException) throw (IOException) cause;
+			throw new IOException(cause);
+		}
 	}
 
 }
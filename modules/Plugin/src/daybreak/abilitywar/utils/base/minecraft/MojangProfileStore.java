@@ -0,0 +1,267 @@
+package daybreak.abilitywar.utils.base.minecraft;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import daybreak.abilitywar.utils.base.logging.Logger;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 모장 API에서 받아온 프로필과 스킨을 파일에 저장해두는 저장소입니다.
+ * <p>
+ * 저장된 값은 {@link #TTL} 동안 유효하며, 서버를 재시작해도 파일에서 다시 읽어옵니다.
+ * 같은 키에 대한 요청이 진행 중일 때 들어온 요청은 새 요청을 보내지 않고 진행 중인 요청의 결과를 공유합니다.
+ * 모든 요청은 생성자에서 받은 {@link Executor}에서 수행되므로, 반환된 {@link CompletableFuture}를 기다리지 않는 한 호출한 스레드를 막지 않습니다.
+ * <p>
+ * API 주소를 생성자에서 받으므로, 로컬 HTTP 서버를 대신 지정하여 모장 서버 없이도 사용할 수 있습니다.
+ *
+ * @author Daybreak 새벽
+ */
+public class MojangProfileStore {
+
+	private static final Logger logger = Logger.getLogger(MojangProfileStore.class);
+
+	public static final String DEFAULT_API_URL = "https://api.mojang.com";
+	public static final String DEFAULT_SESSION_URL = "https://sessionserver.mojang.com";
+
+	/**
+	 * 저장된 값이 유효한 시간 (밀리초)
+	 */
+	public static final long TTL = TimeUnit.DAYS.toMillis(1);
+
+	private static final int TIMEOUT = (int) TimeUnit.SECONDS.toMillis(5);
+
+	private final File file;
+	private final String apiUrl, sessionUrl;
+	private final Executor executor;
+	private final Map<String, Record> records = new ConcurrentHashMap<>();
+	private final Map<String, CompletableFuture<JsonObject>> inFlight = new ConcurrentHashMap<>();
+	private final AtomicBoolean saveScheduled = new AtomicBoolean();
+	private final CompletableFuture<Void> loaded;
+
+	/**
+	 * @param file       프로필을 저장할 파일
+	 * @param apiUrl     이름으로 UUID를 조회할 API 주소, 예: {@link #DEFAULT_API_URL}
+	 * @param sessionUrl UUID로 프로필을 조회할 세션 서버 주소, 예: {@link #DEFAULT_SESSION_URL}
+	 * @param executor   파일 입출력과 HTTP 요청을 수행할 Executor
+	 */
+	public MojangProfileStore(final @NotNull File file, final @NotNull String apiUrl, final @NotNull String sessionUrl, final @NotNull Executor executor) {
+		this.file = file;
+		this.apiUrl = trimSlash(apiUrl);
+		this.sessionUrl = trimSlash(sessionUrl);
+		this.executor = executor;
+		this.loaded = CompletableFuture.runAsync(this::load, executor);
+	}
+
+	/**
+	 * 이름에 해당하는 플레이어의 UUID를 대시 없는 형식으로 반환합니다.
+	 */
+	public @NotNull CompletableFuture<String> getUniqueId(final @NotNull String name) {
+		return lookup("name:" + name.toLowerCase(Locale.ROOT), () -> {
+			final JsonObject response = request(apiUrl + "/users/profiles/minecraft/" + name);
+			final JsonObject value = new JsonObject();
+			value.addProperty("id", response.get("id").getAsString());
+			return value;
+		}).thenApply(value -> value.get("id").getAsString());
+	}
+
+	/**
+	 * UUID에 해당하는 플레이어의 현재 이름을 반환합니다.
+	 */
+	public @NotNull CompletableFuture<String> getNickname(final @NotNull String uuid) {
+		return getProfile(uuid).thenApply(value -> value.get("name").getAsString());
+	}
+
+	/**
+	 * UUID에 해당하는 플레이어의 서명된 스킨 정보를 반환합니다.
+	 */
+	public @NotNull CompletableFuture<SkinInfo> getSkinByUniqueId(final @NotNull String uuid) {
+		return getProfile(uuid).thenApply(value -> {
+			if (!value.has("value")) throw new IllegalStateException(uuid + " 프로필에 스킨 정보가 없습니다.");
+			return new SkinInfo(value.get("name").getAsString(), value.get("value").getAsString(), value.get("signature").getAsString());
+		});
+	}
+
+	/**
+	 * 이름에 해당하는 플레이어의 서명된 스킨 정보를 반환합니다.
+	 */
+	public @NotNull CompletableFuture<SkinInfo> getSkin(final @NotNull String name) {
+		return getUniqueId(name).thenCompose(this::getSkinByUniqueId);
+	}
+
+	private CompletableFuture<JsonObject> getProfile(final String uuid) {
+		final String id = uuid.replace("-", "").toLowerCase(Locale.ROOT);
+		return lookup("profile:" + id, () -> {
+			final JsonObject response = request(sessionUrl + "/session/minecraft/profile/" + id + "?unsigned=false");
+			final JsonObject value = new JsonObject();
+			value.addProperty("name", response.get("name").getAsString());
+			final JsonArray properties = response.getAsJsonArray("properties");
+			if (properties != null) {
+				for (final JsonElement element : properties) {
+					final JsonObject property = element.getAsJsonObject();
+					if ("textures".equals(property.get("name").getAsString()) && property.has("signature")) {
+						value.addProperty("value", property.get("value").getAsString());
+						value.addProperty("signature", property.get("signature").getAsString());
+						break;
+					}
+				}
+			}
+			return value;
+		});
+	}
+
+	private CompletableFuture<JsonObject> lookup(final String key, final Fetcher fetcher) {
+		if (!loaded.isDone()) return loaded.thenCompose(ignored -> lookup(key, fetcher));
+		final Record record = records.get(key);
+		if (record != null && !record.isExpired()) return CompletableFuture.completedFuture(record.value);
+		final CompletableFuture<JsonObject> future = new CompletableFuture<>();
+		final CompletableFuture<JsonObject> existing = inFlight.putIfAbsent(key, future);
+		if (existing != null) return existing;
+		try {
+			executor.execute(() -> fetch(key, fetcher, future));
+		} catch (RuntimeException e) {
+			inFlight.remove(key, future);
+			future.completeExceptionally(e);
+		}
+		return future;
+	}
+
+	private void fetch(final String key, final Fetcher fetcher, final CompletableFuture<JsonObject> future) {
+		final Record cached = records.get(key);
+		if (cached != null && !cached.isExpired()) {
+			inFlight.remove(key, future);
+			future.complete(cached.value);
+			return;
+		}
+		try {
+			final JsonObject value = fetcher.fetch();
+			records.put(key, new Record(value, System.currentTimeMillis()));
+			inFlight.remove(key, future);
+			future.complete(value);
+			scheduleSave();
+		} catch (Exception e) {
+			inFlight.remove(key, future);
+			if (cached != null) {
+				future.complete(cached.value);
+			} else {
+				future.completeExceptionally(e);
+			}
+		}
+	}
+
+	private JsonObject request(final String url) throws IOException {
+		final HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+		connection.setConnectTimeout(TIMEOUT);
+		connection.setReadTimeout(TIMEOUT);
+		try {
+			final int code = connection.getResponseCode();
+			if (code == HttpURLConnection.HTTP_NO_CONTENT || code == HttpURLConnection.HTTP_NOT_FOUND) {
+				throw new FileNotFoundException(url);
+			} else if (code != HttpURLConnection.HTTP_OK) {
+				throw new IOException(url + " 요청이 " + code + " 응답 코드로 실패하였습니다.");
+			}
+			try (final Reader reader = new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8)) {
+				return JsonParser.parseReader(reader).getAsJsonObject();
+			}
+		} finally {
+			connection.disconnect();
+		}
+	}
+
+	private void load() {
+		if (!file.isFile()) return;
+		try (final Reader reader = new InputStreamReader(Files.newInputStream(file.toPath()), StandardCharsets.UTF_8)) {
+			final JsonElement root = JsonParser.parseReader(reader);
+			if (!root.isJsonObject()) return;
+			for (final Entry<String, JsonElement> entry : root.getAsJsonObject().entrySet()) {
+				final JsonObject object = entry.getValue().getAsJsonObject();
+				records.put(entry.getKey(), new Record(object.getAsJsonObject("value"), object.get("time").getAsLong()));
+			}
+		} catch (Exception e) {
+			logger.error(file.getName() + " 파일을 불러오는 도중 오류가 발생하였습니다.");
+			e.printStackTrace();
+		}
+	}
+
+	private void scheduleSave() {
+		if (saveScheduled.compareAndSet(false, true)) {
+			executor.execute(this::save);
+		}
+	}
+
+	private void save() {
+		saveScheduled.set(false);
+		final JsonObject root = new JsonObject();
+		for (final Entry<String, Record> entry : records.entrySet()) {
+			final Record record = entry.getValue();
+			final JsonObject object = new JsonObject();
+			object.addProperty("time", record.time);
+			object.add("value", record.value);
+			root.add(entry.getKey(), object);
+		}
+		final File parent = file.getAbsoluteFile().getParentFile();
+		final File temp = new File(parent, file.getName() + ".tmp");
+		try {
+			if (parent != null && !parent.exists()) parent.mkdirs();
+			try (final Writer writer = new OutputStreamWriter(Files.newOutputStream(temp.toPath()), StandardCharsets.UTF_8)) {
+				writer.write(root.toString());
+			}
+			try {
+				Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException e) {
+			logger.error(file.getName() + " 파일을 저장하는 도중 오류가 발생하였습니다.");
+			e.printStackTrace();
+		}
+	}
+
+	private static String trimSlash(final String url) {
+		return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+	}
+
+	private interface Fetcher {
+		JsonObject fetch() throws IOException;
+	}
+
+	private static class Record {
+
+		private final JsonObject value;
+		private final long time;
+
+		private Record(final JsonObject value, final long time) {
+			this.value = value;
+			this.time = time;
+		}
+
+		private boolean isExpired() {
+			return System.currentTimeMillis() - time > TTL;
+		}
+
+	}
+
+}
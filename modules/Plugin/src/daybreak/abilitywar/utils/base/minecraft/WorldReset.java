@@ -1,24 +1,59 @@
 package daybreak.abilitywar.utils.base.minecraft;
 
 import com.google.common.collect.ImmutableSet;
+import daybreak.abilitywar.AbilityWar;
 import daybreak.abilitywar.utils.base.Messager;
 import daybreak.abilitywar.utils.base.io.FileUtil;
+import daybreak.abilitywar.utils.base.logging.Logger;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.WorldCreator;
 import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
+import java.util.zip.ZipFile;
 
+/**
+ * 월드를 mapBackup 폴더의 zip 백업으로 초기화합니다.
+ * <p>
+ * 메인 스레드에서는 월드 언로드와 다시 불러오기만 수행하며, 파일 복원은 비동기로 진행합니다.
+ * 복원 시에는 백업에 기록된 CRC-32와 현재 파일을 비교하여 달라진 파일만 다시 풀고,
+ * 백업에 없는 리전 파일(.mca)은 삭제합니다.
+ * <p>
+ * 초기화 중인 월드는 언로드된 상태로 파일이 다시 쓰이므로, {@link #isResetting()}이 true인 동안에는
+ * 게임을 시작하거나 같은 월드를 다시 초기화할 수 없습니다.
+ */
 public class WorldReset {
 
+	private static final Logger logger = Logger.getLogger(WorldReset.class);
 	public static final ImmutableSet<String> defaultWorlds = ImmutableSet.of("world", "world_nether", "world_the_end");
 	private static final File mainDirectory = FileUtil.newDirectory("mapBackup");
+	private static final int BUFFER_SIZE = 1 << 18;
+	private static final Set<String> resetting = new HashSet<>();
+	private static final Set<String> resettingView = Collections.unmodifiableSet(resetting);
 
 	private WorldReset() {}
 
@@ -31,11 +66,51 @@ public class WorldReset {
 		return new File(mainDirectory, world.getName() + ".zip");
 	}
 
+	/**
+	 * 초기화 중인 월드가 있는지 확인합니다.
+	 */
+	public static boolean isResetting() {
+		return !resetting.isEmpty();
+	}
+
+	/**
+	 * 주어진 이름의 월드가 초기화 중인지 확인합니다.
+	 */
+	public static boolean isResetting(final String name) {
+		return resetting.contains(name);
+	}
+
+	/**
+	 * 초기화 중인 월드의 이름 목록을 반환합니다.
+	 */
+	public static Set<String> getResettingWorlds() {
+		return resettingView;
+	}
+
 	public static boolean resetWorld(World world) {
+		return resetWorld(world, null);
+	}
+
+	/**
+	 * 월드를 초기화합니다. 월드는 즉시 언로드되며, 파일 복원이 끝나면 메인 스레드에서 다시 불러옵니다.
+	 * 이미 초기화 중인 월드는 초기화하지 않습니다.
+	 * 플러그인이 비활성화되는 중에 호출된 경우에는 호출한 스레드에서 바로 복원하고 다시 불러옵니다.
+	 *
+	 * @param world      초기화할 월드
+	 * @param onComplete 월드를 다시 불러온 뒤 메인 스레드에서 실행할 작업, 복원에 성공했다면 true를 받습니다.
+	 * @return 초기화를 시작한 경우 true
+	 */
+	public static boolean resetWorld(final World world, final @Nullable Consumer<Boolean> onComplete) {
 		if (defaultWorlds.contains(world.getName())) return false;
 		if (!hasBackup(world)) return false;
-		Bukkit.getConsoleSender().sendMessage(Messager.defaultPrefix + "§e" + world.getName() + " §f월드 초기화 시작");
-		final File worldFile = new File(world.getName()), backup = getBackup(world);
+		final String name = world.getName();
+		if (!resetting.add(name)) {
+			logger.error(name + " 월드는 이미 초기화 중입니다.");
+			return false;
+		}
+		Bukkit.getConsoleSender().sendMessage(Messager.defaultPrefix + "§e" + name + " §f월드 초기화 시작");
+		final File worldFile = world.getWorldFolder(), backup = getBackup(world);
+		final long unloadStart = System.nanoTime();
 		{
 			final Location safe = Bukkit.getWorlds().get(0).getSpawnLocation();
 			for (Player player : world.getPlayers()) {
@@ -43,43 +118,162 @@ public class WorldReset {
 				player.sendMessage(Messager.defaultPrefix + "안전한 곳으로 강제 이동됩니다.");
 			}
 		}
-		Bukkit.unloadWorld(world, false);
-		worldFile.delete();
-		try (final FileInputStream inputStream = new FileInputStream(backup)) {
-			try (final ZipInputStream zipStream = new ZipInputStream(inputStream)) {
-				final byte[] buffer = new byte[1024];
-				ZipEntry zipEntry;
-				while ((zipEntry = zipStream.getNextEntry()) != null) {
-					final File file = new File(worldFile, zipEntry.getName());
-					if (zipEntry.isDirectory()) {
-						file.mkdirs();
-					} else {
-						final File parent = file.getParentFile();
-						if (parent.isDirectory()) {
-							parent.mkdirs();
-						}
-						try (final FileOutputStream outputStream = new FileOutputStream(file)) {
-							int length;
-							while ((length = zipStream.read(buffer)) > 0) {
-								outputStream.write(buffer, 0, length);
-							}
+		if (!Bukkit.unloadWorld(world, false)) {
+			logger.error(name + " 월드를 언로드할 수 없어 초기화하지 못했습니다.");
+			resetting.remove(name);
+			return false;
+		}
+		final long unloadTime = System.nanoTime() - unloadStart;
+		if (!AbilityWar.getPlugin().isEnabled()) {
+			// 플러그인이 비활성화되는 중에는 작업을 예약할 수 없으므로 이 스레드에서 바로 복원합니다.
+			try {
+				final long restoreStart = System.nanoTime();
+				final RestoreResult result = restore(backup, worldFile.toPath());
+				reload(name, result, unloadTime, System.nanoTime() - restoreStart, onComplete);
+			} finally {
+				resetting.remove(name);
+			}
+			return true;
+		}
+		Bukkit.getScheduler().runTaskAsynchronously(AbilityWar.getPlugin(), () -> {
+			final long restoreStart = System.nanoTime();
+			final RestoreResult result = restore(backup, worldFile.toPath());
+			final long restoreTime = System.nanoTime() - restoreStart;
+			Bukkit.getScheduler().runTask(AbilityWar.getPlugin(), () -> reload(name, result, unloadTime, restoreTime, onComplete));
+		});
+		return true;
+	}
+
+	/**
+	 * 복원을 마친 월드를 다시 불러오고 결과를 알립니다. 메인 스레드에서 호출해야 합니다.
+	 */
+	private static void reload(final String name, final RestoreResult result, final long unloadTime, final long restoreTime, final @Nullable Consumer<Boolean> onComplete) {
+		try {
+			final long loadStart = System.nanoTime();
+			new WorldCreator(name).createWorld();
+			final long loadTime = System.nanoTime() - loadStart;
+			if (result.failed) {
+				logger.error(name + " 월드의 백업을 모두 복원하지 못했습니다. 월드가 일부만 초기화되었을 수 있습니다.");
+			} else {
+				Bukkit.getConsoleSender().sendMessage(Messager.defaultPrefix + "§e" + name + " §f월드 초기화 완료 §7(언로드 " + toMillis(unloadTime) + "ms, 복원 " + toMillis(restoreTime) + "ms, 로드 " + toMillis(loadTime) + "ms / 복원 " + result.restored + "개, 유지 " + result.skipped + "개, 삭제 " + result.deleted + "개)");
+			}
+		} finally {
+			resetting.remove(name);
+		}
+		if (onComplete != null) onComplete.accept(!result.failed);
+	}
+
+	public static void resetWorlds() {
+		resetWorlds(null);
+	}
+
+	/**
+	 * 백업이 있는 모든 월드를 동시에 초기화합니다.
+	 *
+	 * @param onComplete 모든 월드를 다시 불러온 뒤 메인 스레드에서 실행할 작업, 모든 월드의 복원에 성공했다면 true를 받습니다.
+	 */
+	public static void resetWorlds(final @Nullable Consumer<Boolean> onComplete) {
+		final int[] remaining = {1};
+		final boolean[] success = {true};
+		final Consumer<Boolean> countDown = restored -> {
+			if (!restored) success[0] = false;
+			if (--remaining[0] == 0 && onComplete != null) onComplete.accept(success[0]);
+		};
+		for (World world : new ArrayList<>(Bukkit.getWorlds())) {
+			remaining[0]++;
+			if (!resetWorld(world, countDown)) {
+				remaining[0]--;
+			}
+		}
+		countDown.accept(true);
+	}
+
+	private static long toMillis(final long nanos) {
+		return TimeUnit.NANOSECONDS.toMillis(nanos);
+	}
+
+	private static RestoreResult restore(final File backup, final Path worldPath) {
+		final RestoreResult result = new RestoreResult();
+		final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+		final Set<Path> backedUp = new HashSet<>();
+		try (final ZipFile zipFile = new ZipFile(backup)) {
+			for (final Enumeration<? extends ZipEntry> entries = zipFile.entries(); entries.hasMoreElements(); ) {
+				final ZipEntry entry = entries.nextElement();
+				final Path path = worldPath.resolve(entry.getName()).normalize();
+				if (!path.startsWith(worldPath)) continue;
+				if (entry.isDirectory()) {
+					Files.createDirectories(path);
+					continue;
+				}
+				backedUp.add(path);
+				if (matches(path, entry, buffer)) {
+					result.skipped++;
+					continue;
+				}
+				final Path parent = path.getParent();
+				if (parent != null) Files.createDirectories(parent);
+				try (final InputStream inputStream = zipFile.getInputStream(entry);
+					 final ReadableByteChannel source = Channels.newChannel(inputStream);
+					 final FileChannel target = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+					buffer.clear();
+					while (source.read(buffer) != -1) {
+						buffer.flip();
+						while (buffer.hasRemaining()) {
+							target.write(buffer);
 						}
+						buffer.clear();
 					}
 				}
-				zipStream.closeEntry();
+				result.restored++;
 			}
-		} catch (Exception e) {
+		} catch (IOException e) {
+			logger.error(backup.getName() + " 백업을 복원하는 도중 오류가 발생하였습니다.");
 			e.printStackTrace();
+			result.failed = true;
+			return result;
 		}
-		new WorldCreator(world.getName()).createWorld();
-		Bukkit.getConsoleSender().sendMessage(Messager.defaultPrefix + "§e" + world.getName() + " §f월드 초기화 완료");
-		return true;
+		if (Files.isDirectory(worldPath)) {
+			final List<Path> regions;
+			try (final Stream<Path> stream = Files.walk(worldPath)) {
+				regions = stream.filter(path -> path.toString().endsWith(".mca") && !backedUp.contains(path)).collect(Collectors.toList());
+			} catch (IOException e) {
+				e.printStackTrace();
+				result.failed = true;
+				return result;
+			}
+			for (final Path region : regions) {
+				try {
+					Files.delete(region);
+					result.deleted++;
+				} catch (IOException e) {
+					logger.error(region + " 파일을 삭제하지 못했습니다.");
+					result.failed = true;
+				}
+			}
+		}
+		return result;
 	}
 
-	public static void resetWorlds() {
-		for (World world : Bukkit.getWorlds()) {
-			resetWorld(world);
+	/**
+	 * 파일의 크기와 CRC-32가 백업 항목과 같은지 확인합니다.
+	 */
+	private static boolean matches(final Path path, final ZipEntry entry, final ByteBuffer buffer) throws IOException {
+		if (!Files.isRegularFile(path) || entry.getCrc() == -1 || Files.size(path) != entry.getSize()) return false;
+		final CRC32 crc = new CRC32();
+		try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			buffer.clear();
+			while (channel.read(buffer) != -1) {
+				buffer.flip();
+				crc.update(buffer);
+				buffer.clear();
+			}
 		}
+		return crc.getValue() == entry.getCrc();
+	}
+
+	private static class RestoreResult {
+		private int restored = 0, skipped = 0, deleted = 0;
+		private boolean failed = false;
 	}
 
 }
@@ -2,14 +2,19 @@ package daybreak.abilitywar.utils.base.minecraft.item;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import daybreak.abilitywar.AbilityWar;
+import daybreak.abilitywar.utils.base.minecraft.MojangAPI;
+import daybreak.abilitywar.utils.base.minecraft.inventory.Inventories;
 import daybreak.abilitywar.utils.base.minecraft.nms.NMS;
 import daybreak.abilitywar.utils.library.MaterialX;
+import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.SkullMeta;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 public class Skulls {
 
@@ -31,6 +36,29 @@ public class Skulls {
 		return stack;
 	}
 
+	/**
+	 * 스킨 정보를 불러온 후 메인 스레드에서 머리를 생성합니다. 스킨 정보를 불러오지 못한 경우 텍스처가 없는 머리로 완료됩니다.
+	 * <p>
+	 * 반환된 {@link CompletableFuture}는 메인 스레드에서 완료되지만, 이미 완료된 후에 연결한 콜백은 연결한 스레드에서 실행됩니다.
+	 */
+	public static @NotNull CompletableFuture<ItemStack> createSkullAsync(final @NotNull String name) {
+		final CompletableFuture<ItemStack> future = new CompletableFuture<>();
+		whenSkinLoaded(name, () -> future.complete(createSkull(name)));
+		return future;
+	}
+
+	/**
+	 * 스킨 정보를 미리 불러오고, 메인 스레드에서 머리를 한 번 생성하여 이후 {@link #createSkull(String)}가 텍스처가 있는 머리를 반환하도록 합니다.
+	 * 어느 스레드에서든 호출할 수 있습니다.
+	 */
+	public static void prefetch(final @NotNull String name) {
+		whenSkinLoaded(name, () -> Inventories.common.setItem(0, createSkull(name)));
+	}
+
+	private static void whenSkinLoaded(final String name, final Runnable task) {
+		MojangAPI.getSkinAsync(name).whenComplete((skin, throwable) -> Bukkit.getScheduler().runTask(AbilityWar.getPlugin(), task));
+	}
+
 	public static ItemStack createSkull(final Player owner) {
 		final ItemStack stack = MaterialX.PLAYER_HEAD.createItem();
 		stack.setItemMeta(setOwningPlayer((SkullMeta) stack.getItemMeta(), owner));
@@ -1,15 +1,21 @@
 package daybreak.abilitywar.utils.base.random;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.NoSuchElementException;
 
+/**
+ * 가중치에 비례하여 {@link Slice}를 선택하는 룰렛입니다.
+ * <p>
+ * 가중치는 펜윅 트리(Binary Indexed Tree)에 저장하므로 가중치 변경과 선택 모두 O(log n)에 수행됩니다.
+ */
 public class RouletteWheel {
 
 	private final Random random = new Random();
-	private final LinkedList<Slice> slices = new LinkedList<>();
+	private final List<Slice> slices = new ArrayList<>();
 	private final List<Slice> slicesView = Collections.unmodifiableList(slices);
+	private long[] tree = new long[17];
 	private int sum = 0;
 
 	public RouletteWheel() {}
@@ -30,15 +36,33 @@ public class RouletteWheel {
 
 	public Slice select() {
 		if (slices.isEmpty()) throw new NoSuchElementException("There must be at least one slice.");
-		final int r = random.nextInt(sum) + 1;
-		int current = 0;
-		for (Slice slice : slices) {
-			current += slice.weight;
-			if (r <= current) {
-				return slice;
+		return slices.get(find(random.nextInt(sum) + 1));
+	}
+
+	/**
+	 * 가중치에 비례하여 서로 다른 Slice를 여러 개 선택합니다.
+	 * 선택된 Slice는 선택이 끝날 때까지 가중치가 0인 것처럼 취급되며, 선택이 끝나면 원래 가중치로 돌아갑니다.
+	 *
+	 * @param count 선택할 Slice의 수
+	 * @return 선택된 순서대로 정렬된 Slice 목록. 가중치가 0보다 큰 Slice가 부족하면 count보다 적을 수 있습니다.
+	 */
+	public List<Slice> select(final int count) {
+		if (count < 0) throw new IllegalArgumentException("count must be at least 0.");
+		final List<Slice> selected = new ArrayList<>(Math.min(count, slices.size()));
+		try {
+			while (selected.size() < count && sum > 0) {
+				final Slice slice = slices.get(find(random.nextInt(sum) + 1));
+				update(slice.index, -slice.weight);
+				sum -= slice.weight;
+				selected.add(slice);
+			}
+		} finally {
+			for (final Slice slice : selected) {
+				update(slice.index, slice.weight);
+				sum += slice.weight;
 			}
 		}
-		return slices.getLast();
+		return selected;
 	}
 
 	public List<Slice> getSlices() {
@@ -49,21 +73,59 @@ public class RouletteWheel {
 		return sum;
 	}
 
+	private void update(final int index, final long delta) {
+		for (int i = index + 1; i < tree.length; i += i & -i) {
+			tree[i] += delta;
+		}
+	}
+
+	/**
+	 * 누적 가중치가 target 이상이 되는 첫 번째 Slice의 인덱스를 찾습니다.
+	 */
+	private int find(long target) {
+		int position = 0;
+		for (int step = Integer.highestOneBit(tree.length - 1); step > 0; step >>= 1) {
+			final int next = position + step;
+			if (next < tree.length && tree[next] < target) {
+				position = next;
+				target -= tree[next];
+			}
+		}
+		return Math.min(position, slices.size() - 1);
+	}
+
+	private void add(final Slice slice) {
+		slice.index = slices.size();
+		slices.add(slice);
+		if (slices.size() >= tree.length) {
+			this.tree = new long[(tree.length - 1) * 2 + 1];
+			for (final Slice each : slices) {
+				if (each != slice) update(each.index, each.weight);
+			}
+		}
+	}
+
 	public class Slice {
 
 		private final int initialWeight;
+		private int index;
 		private int weight = 0;
 
 		private Slice(final int initialWeight) {
 			if (initialWeight < 0) throw new IllegalArgumentException("initialWeight must be at least 0.");
 			this.initialWeight = initialWeight;
-			slices.add(this);
+			add(this);
 			increaseWeight(initialWeight);
 		}
 
+		private void setWeight(final int weight) {
+			update(index, weight - this.weight);
+			RouletteWheel.this.sum += weight - this.weight;
+			this.weight = weight;
+		}
+
 		public void increaseWeight(final int amount) {
-			RouletteWheel.this.sum += amount;
-			this.weight += amount;
+			setWeight(weight + amount);
 		}
 
 		public void increaseWeight() {
@@ -71,13 +133,7 @@ public class RouletteWheel {
 		}
 
 		public void decreaseWeight(final int amount) {
-			if (this.weight - amount < 1) {
-				RouletteWheel.this.sum -= weight - 1;
-				this.weight = 1;
-			} else {
-				RouletteWheel.this.sum -= amount;
-				this.weight -= amount;
-			}
+			setWeight(Math.max(1, weight - amount));
 		}
 
 		public void decreaseWeight() {
@@ -85,8 +141,7 @@ public class RouletteWheel {
 		}
 
 		public void resetWeight() {
-			RouletteWheel.this.sum += initialWeight - weight;
-			this.weight = initialWeight;
+			setWeight(initialWeight);
 		}
 
 		public int getWeight() {
@@ -29,13 +29,21 @@ public class ReflectionUtil {
 		}
 
 		public static Class<?> forName(final String name) throws ClassNotFoundException {
+			return forName(name, true);
+		}
+
+		/**
+		 * 플러그인과 애드온에서 클래스를 찾습니다.
+		 *
+		 * @param initialize 클래스를 초기화할지 여부
+		 */
+		public static Class<?> forName(final String name, final boolean initialize) throws ClassNotFoundException {
 			try {
-				return Class.forName(name);
+				return Class.forName(name, initialize, ClassUtil.class.getClassLoader());
 			} catch (final ClassNotFoundException exception) {
-				for (final ClassLoader classLoader : AddonClassLoader.getLoaders()) {
-					try {
-						return Class.forName(name, true, classLoader);
-					} catch (ClassNotFoundException ignored) {}
+				final Class<?> clazz = AddonClassLoader.getClassByName(name);
+				if (clazz != null) {
+					return Class.forName(name, initialize, clazz.getClassLoader());
 				}
 			}
 			throw new ClassNotFoundException(name + " 클래스를 찾지 못하였습니다.");
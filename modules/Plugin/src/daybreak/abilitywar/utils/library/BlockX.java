@@ -503,12 +503,13 @@ public final class BlockX {
 		return material;
 	}
 
-	private static Method SET_DATA = null;
+	private static Method SET_DATA = null, SET_DATA_PHYSICS = null;
 
 	static {
 		if (ServerVersion.getVersion() < 13) {
 			try {
 				SET_DATA = Block.class.getDeclaredMethod("setData", byte.class);
+				SET_DATA_PHYSICS = Block.class.getDeclaredMethod("setData", byte.class, boolean.class);
 			} catch (NoSuchMethodException ignored) {
 			}
 		}
@@ -527,6 +528,22 @@ public final class BlockX {
 		}
 	}
 
+	/**
+	 * @param applyPhysics false인 경우 주변 블록의 물리 연산을 일으키지 않고 변경합니다.
+	 */
+	public static void setType(Block block, MaterialX materialX, boolean applyPhysics) {
+		Material material = checkMaterial(materialX.getMaterial());
+		if (material != null) {
+			block.setType(material, applyPhysics);
+			if (ServerVersion.getVersion() < 13 && materialX.hasData()) {
+				try {
+					SET_DATA_PHYSICS.invoke(block, materialX.getData(), applyPhysics);
+				} catch (IllegalAccessException | InvocationTargetException ignored) {
+				}
+			}
+		}
+	}
+
 	public static void sendBlockChange(Player player, Location location, MaterialX materialX) {
 		Material material = checkMaterial(materialX.getMaterial());
 		if (material != null) {
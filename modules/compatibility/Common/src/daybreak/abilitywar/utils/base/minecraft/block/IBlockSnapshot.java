@@ -4,4 +4,9 @@ public interface IBlockSnapshot {
 
 	void apply();
 
+	/**
+	 * @param applyPhysics false인 경우 주변 블록의 물리 연산을 일으키지 않고 복구합니다.
+	 */
+	void apply(boolean applyPhysics);
+
 }
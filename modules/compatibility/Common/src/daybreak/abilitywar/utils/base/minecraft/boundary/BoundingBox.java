@@ -12,6 +12,11 @@ import org.jetbrains.annotations.Nullable;
 
 public abstract class BoundingBox {
 
+	/**
+	 * 엔티티 좌표를 읽을 때 재사용하는 위치입니다. 마지막 엔티티의 월드를 붙잡아두지 않도록 좌표를 읽은 후 월드를 비웁니다.
+	 */
+	private static final Location scratch = new Location(null, 0, 0, 0);
+
 	protected double minX, minY, minZ, maxX, maxY, maxZ;
 
 	public BoundingBox(double x1, double y1, double z1, double x2, double y2, double z2) {
@@ -48,27 +53,27 @@ public abstract class BoundingBox {
 	}
 
 	public double getMinX() {
-		return getCenter().getX() + this.minX;
+		return getCenterX() + this.minX;
 	}
 
 	public double getMinY() {
-		return getCenter().getY() + this.minY;
+		return getCenterY() + this.minY;
 	}
 
 	public double getMinZ() {
-		return getCenter().getZ() + this.minZ;
+		return getCenterZ() + this.minZ;
 	}
 
 	public double getMaxX() {
-		return getCenter().getX() + this.maxX;
+		return getCenterX() + this.maxX;
 	}
 
 	public double getMaxY() {
-		return getCenter().getY() + this.maxY;
+		return getCenterY() + this.maxY;
 	}
 
 	public double getMaxZ() {
-		return getCenter().getZ() + this.maxZ;
+		return getCenterZ() + this.maxZ;
 	}
 
 	public double getHeight() {
@@ -89,27 +94,42 @@ public abstract class BoundingBox {
 
 	public abstract @NotNull Vector getCenter();
 
+	/**
+	 * 중심의 X 좌표를 반환합니다. 하위 클래스는 {@link Vector}를 생성하지 않도록 재정의할 수 있습니다.
+	 */
+	public double getCenterX() {
+		return getCenter().getX();
+	}
+
+	public double getCenterY() {
+		return getCenter().getY();
+	}
+
+	public double getCenterZ() {
+		return getCenter().getZ();
+	}
+
 	public boolean conflicts(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
-		final Vector min = getMin(), max = getMax();
-		return min.getX() < maxX && minX < max.getX() && min.getY() < maxY && minY < max.getY() && min.getZ() < maxZ && minZ < max.getZ();
+		final double centerX = getCenterX(), centerY = getCenterY(), centerZ = getCenterZ();
+		return centerX + this.minX < maxX && minX < centerX + this.maxX && centerY + this.minY < maxY && minY < centerY + this.maxY && centerZ + this.minZ < maxZ && minZ < centerZ + this.maxZ;
 	}
 
 	public boolean conflicts(@NotNull BoundingBox other) {
-		final Vector aMin = getMin(), aMax = getMax(), bMin = other.getMin(), bMax = other.getMax();
-		return aMin.getX() < bMax.getX() && bMin.getX() < aMax.getX() && aMin.getY() < bMax.getY() && bMin.getY() < aMax.getY() && aMin.getZ() < bMax.getZ() && bMin.getZ() < aMax.getZ();
+		final double centerX = other.getCenterX(), centerY = other.getCenterY(), centerZ = other.getCenterZ();
+		return conflicts(centerX + other.minX, centerY + other.minY, centerZ + other.minZ, centerX + other.maxX, centerY + other.maxY, centerZ + other.maxZ);
 	}
 
 	public boolean conflicts(@NotNull final Entity entity) {
 		final BoundaryData data = BoundaryData.of(entity.getType());
-		final Location loc = entity.getLocation();
-		final Vector center = getCenter();
-		return loc.getX() + data.getMinX() < center.getX() + this.maxX && center.getX() + this.minX < loc.getX() + data.getMaxX() && loc.getY() + data.getMinY() < center.getY() + this.maxY &&
-				center.getY() + this.minY < loc.getY() + data.getMaxY() && loc.getZ() + data.getMinZ() < center.getZ() + this.maxZ && center.getZ() + this.minZ < loc.getZ() + data.getMaxZ();
+		final Location loc = entity.getLocation(scratch);
+		final double x = loc.getX(), y = loc.getY(), z = loc.getZ();
+		scratch.setWorld(null);
+		return conflicts(x + data.getMinX(), y + data.getMinY(), z + data.getMinZ(), x + data.getMaxX(), y + data.getMaxY(), z + data.getMaxZ());
 	}
 
 	public boolean contains(double x, double y, double z) {
-		final Vector min = getMin(), max = getMax();
-		return x >= min.getX() && x < max.getX() && y >= min.getY() && y < max.getY() && z >= min.getZ() && z < max.getZ();
+		final double centerX = getCenterX(), centerY = getCenterY(), centerZ = getCenterZ();
+		return x >= centerX + minX && x < centerX + maxX && y >= centerY + minY && y < centerY + maxY && z >= centerZ + minZ && z < centerZ + maxZ;
 	}
 
 	public boolean contains(@NotNull Vector position) {
@@ -118,8 +138,8 @@ public abstract class BoundingBox {
 	}
 
 	private boolean contains(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
-		final Vector min = getMin(), max = getMax();
-		return min.getX() <= minX && max.getX() >= maxX && min.getY() <= minY && max.getY() >= maxY && min.getZ() <= minZ && max.getZ() >= maxZ;
+		final double centerX = getCenterX(), centerY = getCenterY(), centerZ = getCenterZ();
+		return centerX + this.minX <= minX && centerX + this.maxX >= maxX && centerY + this.minY <= minY && centerY + this.maxY >= maxY && centerZ + this.minZ <= minZ && centerZ + this.maxZ >= maxZ;
 	}
 
 	public boolean contains(@NotNull BoundingBox other) {
@@ -140,10 +160,10 @@ public abstract class BoundingBox {
 		direction.checkFinite();
 		if (maxDistance < 0.0D) return null;
 
-		final Vector center = getCenter();
+		final double centerX = getCenterX(), centerY = getCenterY(), centerZ = getCenterZ();
 		final double startX = start.getX(), startY = start.getY(), startZ = start.getZ();
-		final double minX = center.getX() + this.minX, minY = center.getY() + this.minY, minZ = center.getZ() + this.minZ;
-		final double maxX = center.getX() + this.maxX, maxY = center.getY() + this.maxY, maxZ = center.getZ() + this.maxZ;
+		final double minX = centerX + this.minX, minY = centerY + this.minY, minZ = centerZ + this.minZ;
+		final double maxX = centerX + this.maxX, maxY = centerY + this.maxY, maxZ = centerZ + this.maxZ;
 		direction = direction.clone().normalize();
 		final double dirX = direction.getX(), dirY = direction.getY(), dirZ = direction.getZ(), divX = 1.0D / dirX, divY = 1.0D / dirY, divZ = 1.0D / dirZ;
 		double tMin = ((dirX >= 0 ? minX : maxX) - startX) * divX, tMax = ((dirX >= 0 ? maxX : minX) - startX) * divX;
@@ -179,10 +199,10 @@ public abstract class BoundingBox {
 		start.checkFinite();
 		direction.checkFinite();
 
-		final Vector center = getCenter();
+		final double centerX = getCenterX(), centerY = getCenterY(), centerZ = getCenterZ();
 		final double startX = start.getX(), startY = start.getY(), startZ = start.getZ();
-		final double minX = center.getX() + this.minX, minY = center.getY() + this.minY, minZ = center.getZ() + this.minZ;
-		final double maxX = center.getX() + this.maxX, maxY = center.getY() + this.maxY, maxZ = center.getZ() + this.maxZ;
+		final double minX = centerX + this.minX, minY = centerY + this.minY, minZ = centerZ + this.minZ;
+		final double maxX = centerX + this.maxX, maxY = centerY + this.maxY, maxZ = centerZ + this.maxZ;
 		direction = direction.clone().normalize();
 		final double dirX = direction.getX(), dirY = direction.getY(), dirZ = direction.getZ(), divX = 1.0D / dirX, divY = 1.0D / dirY, divZ = 1.0D / dirZ;
 		double tMin = ((dirX >= 0 ? minX : maxX) - startX) * divX, tMax = ((dirX >= 0 ? maxX : minX) - startX) * divX;
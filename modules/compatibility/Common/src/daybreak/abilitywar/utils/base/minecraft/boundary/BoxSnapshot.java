@@ -0,0 +1,130 @@
+package daybreak.abilitywar.utils.base.minecraft.boundary;
+
+import com.google.common.base.Preconditions;
+import daybreak.abilitywar.utils.base.minecraft.boundary.Boundary.BoundaryData;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.util.Vector;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 특정 시점의 월드 좌표를 그대로 담아두는 변경 불가능한 바운딩 박스입니다.
+ * <p>
+ * {@link BoundingBox}와 달리 좌표를 읽을 때마다 중심을 다시 계산하지 않으며, 충돌 및 광선 검사에서 객체를 생성하지 않습니다.
+ * 엔티티가 움직이면 스냅샷은 갱신되지 않으므로, 같은 틱 안에서 여러 번 검사할 때 사용하세요.
+ */
+public final class BoxSnapshot {
+
+	/**
+	 * 엔티티 좌표를 읽을 때 재사용하는 위치입니다. 좌표를 읽은 후에는 월드를 비웁니다.
+	 */
+	private static final Location scratch = new Location(null, 0, 0, 0);
+
+	public static @NotNull BoxSnapshot of(@NotNull Entity entity, double expansion) {
+		final BoundaryData data = BoundaryData.of(Preconditions.checkNotNull(entity).getType());
+		final Location location = entity.getLocation(scratch);
+		final double x = location.getX(), y = location.getY(), z = location.getZ();
+		scratch.setWorld(null);
+		return new BoxSnapshot(x + data.minX - expansion, y + data.minY - expansion, z + data.minZ - expansion, x + data.maxX + expansion, y + data.maxY + expansion, z + data.maxZ + expansion);
+	}
+
+	public static @NotNull BoxSnapshot of(@NotNull Entity entity) {
+		return of(entity, 0);
+	}
+
+	public static @NotNull BoxSnapshot of(@NotNull BoundingBox boundingBox) {
+		final Vector center = boundingBox.getCenter();
+		final double x = center.getX(), y = center.getY(), z = center.getZ();
+		return new BoxSnapshot(x + boundingBox.minX, y + boundingBox.minY, z + boundingBox.minZ, x + boundingBox.maxX, y + boundingBox.maxY, z + boundingBox.maxZ);
+	}
+
+	private final double minX, minY, minZ, maxX, maxY, maxZ;
+
+	public BoxSnapshot(double x1, double y1, double z1, double x2, double y2, double z2) {
+		this.minX = Math.min(x1, x2);
+		this.minY = Math.min(y1, y2);
+		this.minZ = Math.min(z1, z2);
+		this.maxX = Math.max(x1, x2);
+		this.maxY = Math.max(y1, y2);
+		this.maxZ = Math.max(z1, z2);
+	}
+
+	public double getMinX() {
+		return minX;
+	}
+
+	public double getMinY() {
+		return minY;
+	}
+
+	public double getMinZ() {
+		return minZ;
+	}
+
+	public double getMaxX() {
+		return maxX;
+	}
+
+	public double getMaxY() {
+		return maxY;
+	}
+
+	public double getMaxZ() {
+		return maxZ;
+	}
+
+	public @NotNull BoxSnapshot expand(double expansion) {
+		if (expansion == 0) return this;
+		return new BoxSnapshot(minX - expansion, minY - expansion, minZ - expansion, maxX + expansion, maxY + expansion, maxZ + expansion);
+	}
+
+	public boolean conflicts(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+		return this.minX < maxX && minX < this.maxX && this.minY < maxY && minY < this.maxY && this.minZ < maxZ && minZ < this.maxZ;
+	}
+
+	public boolean conflicts(@NotNull BoxSnapshot other) {
+		return conflicts(other.minX, other.minY, other.minZ, other.maxX, other.maxY, other.maxZ);
+	}
+
+	public boolean contains(double x, double y, double z) {
+		return x >= minX && x < maxX && y >= minY && y < maxY && z >= minZ && z < maxZ;
+	}
+
+	/**
+	 * 시작 위치에서 방향으로 나아가는 광선이 이 박스와 만나는 거리를 계산합니다.
+	 * @param dirX 정규화된 방향의 X 성분
+	 * @param dirY 정규화된 방향의 Y 성분
+	 * @param dirZ 정규화된 방향의 Z 성분
+	 * @param maxDistance 최대 거리
+	 * @return 교차점까지의 거리, 교차하지 않을 경우 {@link Double#NaN}
+	 */
+	public double rayTrace(double startX, double startY, double startZ, double dirX, double dirY, double dirZ, double maxDistance) {
+		return rayTrace(minX, minY, minZ, maxX, maxY, maxZ, startX, startY, startZ, dirX, dirY, dirZ, maxDistance);
+	}
+
+	/**
+	 * 슬랩 방식으로 광선과 박스가 만나는 거리를 계산합니다. 시작 위치가 박스 안에 있으면 광선이 박스를 빠져나가는 거리를 반환합니다.
+	 * @return 교차점까지의 거리, 교차하지 않을 경우 {@link Double#NaN}
+	 */
+	static double rayTrace(double minX, double minY, double minZ, double maxX, double maxY, double maxZ, double startX, double startY, double startZ, double dirX, double dirY, double dirZ, double maxDistance) {
+		if (maxDistance < 0.0D) return Double.NaN;
+		final double divX = 1.0D / dirX, divY = 1.0D / dirY, divZ = 1.0D / dirZ;
+		double tMin = ((dirX >= 0 ? minX : maxX) - startX) * divX, tMax = ((dirX >= 0 ? maxX : minX) - startX) * divX;
+		final double tyMin = ((dirY >= 0 ? minY : maxY) - startY) * divY, tyMax = ((dirY >= 0 ? maxY : minY) - startY) * divY;
+		if (!(tMin <= tyMax && tMax >= tyMin)) return Double.NaN;
+		if (tyMin > tMin) tMin = tyMin;
+		if (tyMax < tMax) tMax = tyMax;
+		final double tzMin = ((dirZ >= 0 ? minZ : maxZ) - startZ) * divZ, tzMax = ((dirZ >= 0 ? maxZ : minZ) - startZ) * divZ;
+		if (!(tMin <= tzMax && tMax >= tzMin)) return Double.NaN;
+		if (tzMin > tMin) tMin = tzMin;
+		if (tzMax < tMax) tMax = tzMax;
+		if (tMax < 0.0D || tMin > maxDistance) return Double.NaN;
+		return tMin < 0.0D ? tMax : tMin;
+	}
+
+	@Override
+	public String toString() {
+		return "BoxSnapshot{" + "minX=" + minX + ", minY=" + minY + ", minZ=" + minZ + ", maxX=" + maxX + ", maxY=" + maxY + ", maxZ=" + maxZ + "}";
+	}
+
+}
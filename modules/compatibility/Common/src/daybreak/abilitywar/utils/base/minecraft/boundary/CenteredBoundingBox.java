@@ -43,6 +43,21 @@ public class CenteredBoundingBox extends BoundingBox {
 		return center;
 	}
 
+	@Override
+	public double getCenterX() {
+		return center.getX();
+	}
+
+	@Override
+	public double getCenterY() {
+		return center.getY();
+	}
+
+	@Override
+	public double getCenterZ() {
+		return center.getZ();
+	}
+
 	public void setCenter(@NotNull Vector center) {
 		center.checkFinite();
 		this.center = center;
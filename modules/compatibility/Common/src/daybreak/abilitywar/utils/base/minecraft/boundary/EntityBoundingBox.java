@@ -2,6 +2,7 @@ package daybreak.abilitywar.utils.base.minecraft.boundary;
 
 import com.google.common.base.Preconditions;
 import daybreak.abilitywar.utils.base.minecraft.boundary.Boundary.BoundaryData;
+import org.bukkit.Location;
 import org.bukkit.block.BlockFace;
 import org.bukkit.entity.Entity;
 import org.bukkit.util.Vector;
@@ -15,6 +16,7 @@ public class EntityBoundingBox extends BoundingBox {
 	}
 
 	private final Entity entity;
+	private final Location scratch = new Location(null, 0, 0, 0);
 
 	public EntityBoundingBox(@NotNull Entity entity, double x1, double y1, double z1, double x2, double y2, double z2) {
 		super(x1, y1, z1, x2, y2, z2);
@@ -37,6 +39,21 @@ public class EntityBoundingBox extends BoundingBox {
 		return entity.getLocation().toVector();
 	}
 
+	@Override
+	public double getCenterX() {
+		return entity.getLocation(scratch).getX();
+	}
+
+	@Override
+	public double getCenterY() {
+		return entity.getLocation(scratch).getY();
+	}
+
+	@Override
+	public double getCenterZ() {
+		return entity.getLocation(scratch).getZ();
+	}
+
 	@Override
 	public @NotNull EntityBoundingBox expand(double negativeX, double negativeY, double negativeZ, double positiveX, double positiveY, double positiveZ) {
 		super.expand(negativeX, negativeY, negativeZ, positiveX, positiveY, positiveZ);
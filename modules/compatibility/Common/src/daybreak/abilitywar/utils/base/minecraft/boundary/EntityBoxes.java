@@ -0,0 +1,126 @@
+package daybreak.abilitywar.utils.base.minecraft.boundary;
+
+import daybreak.abilitywar.utils.base.minecraft.boundary.Boundary.BoundaryData;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * 여러 엔티티의 바운딩 박스를 한 번에 스냅샷하여 평평한 배열에 담아두고, 충돌 및 광선 검사를 일괄로 수행합니다.
+ * <p>
+ * 엔티티 i의 박스는 {@code bounds[i * 6]}부터 minX, minY, minZ, maxX, maxY, maxZ 순서로 저장됩니다.
+ * 매 틱마다 {@link #snapshot(Collection)}으로 다시 채우면 배열을 재사용하므로 검사 중에는 객체를 생성하지 않습니다.
+ *
+ * @param <T> 엔티티 타입
+ */
+public final class EntityBoxes<T extends Entity> {
+
+	private final Location scratch = new Location(null, 0, 0, 0);
+	private final List<T> entities = new ArrayList<>();
+	private double[] bounds = new double[0];
+
+	/**
+	 * 주어진 엔티티들의 현재 바운딩 박스를 기록합니다. 이전에 기록된 내용은 모두 지워집니다.
+	 */
+	public @NotNull EntityBoxes<T> snapshot(@NotNull Collection<? extends T> entities) {
+		this.entities.clear();
+		this.entities.addAll(entities);
+		final int size = this.entities.size();
+		if (bounds.length < size * 6) {
+			this.bounds = Arrays.copyOf(bounds, Math.max(size, bounds.length / 6 * 2) * 6);
+		}
+		for (int i = 0, offset = 0; i < size; i++, offset += 6) {
+			final T entity = this.entities.get(i);
+			final BoundaryData data = BoundaryData.of(entity.getType());
+			final Location location = entity.getLocation(scratch);
+			final double x = location.getX(), y = location.getY(), z = location.getZ();
+			bounds[offset] = x + data.minX;
+			bounds[offset + 1] = y + data.minY;
+			bounds[offset + 2] = z + data.minZ;
+			bounds[offset + 3] = x + data.maxX;
+			bounds[offset + 4] = y + data.maxY;
+			bounds[offset + 5] = z + data.maxZ;
+		}
+		scratch.setWorld(null);
+		return this;
+	}
+
+	public int size() {
+		return entities.size();
+	}
+
+	public @NotNull T get(int index) {
+		return entities.get(index);
+	}
+
+	public @NotNull BoxSnapshot getBox(int index) {
+		final int offset = index * 6;
+		return new BoxSnapshot(bounds[offset], bounds[offset + 1], bounds[offset + 2], bounds[offset + 3], bounds[offset + 4], bounds[offset + 5]);
+	}
+
+	/**
+	 * 기록된 엔티티 중 주어진 범위와 충돌하는 엔티티의 인덱스를 consumer에 전달합니다.
+	 */
+	public void forEachConflict(double minX, double minY, double minZ, double maxX, double maxY, double maxZ, @NotNull IntConsumer consumer) {
+		final int size = entities.size();
+		for (int i = 0, offset = 0; i < size; i++, offset += 6) {
+			if (bounds[offset] < maxX && minX < bounds[offset + 3] && bounds[offset + 1] < maxY && minY < bounds[offset + 4] && bounds[offset + 2] < maxZ && minZ < bounds[offset + 5]) {
+				consumer.accept(i);
+			}
+		}
+	}
+
+	/**
+	 * 기록된 엔티티 중 주어진 범위와 충돌하는 첫 번째 엔티티의 인덱스를 반환합니다.
+	 * @return 엔티티의 인덱스, 충돌하는 엔티티가 없을 경우 -1
+	 */
+	public int firstConflict(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+		final int size = entities.size();
+		for (int i = 0, offset = 0; i < size; i++, offset += 6) {
+			if (bounds[offset] < maxX && minX < bounds[offset + 3] && bounds[offset + 1] < maxY && minY < bounds[offset + 4] && bounds[offset + 2] < maxZ && minZ < bounds[offset + 5]) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	public void forEachConflict(@NotNull BoxSnapshot box, @NotNull IntConsumer consumer) {
+		forEachConflict(box.getMinX(), box.getMinY(), box.getMinZ(), box.getMaxX(), box.getMaxY(), box.getMaxZ(), consumer);
+	}
+
+	/**
+	 * 엔티티의 박스를 expansion만큼 늘린 후, 광선이 박스와 만나는 거리를 계산합니다.
+	 * @param dirX 정규화된 방향의 X 성분
+	 * @param dirY 정규화된 방향의 Y 성분
+	 * @param dirZ 정규화된 방향의 Z 성분
+	 * @return 교차점까지의 거리, 교차하지 않을 경우 {@link Double#NaN}
+	 */
+	public double rayTrace(int index, double expansion, double startX, double startY, double startZ, double dirX, double dirY, double dirZ, double maxDistance) {
+		final int offset = index * 6;
+		return BoxSnapshot.rayTrace(bounds[offset] - expansion, bounds[offset + 1] - expansion, bounds[offset + 2] - expansion, bounds[offset + 3] + expansion, bounds[offset + 4] + expansion, bounds[offset + 5] + expansion, startX, startY, startZ, dirX, dirY, dirZ, maxDistance);
+	}
+
+	/**
+	 * 광선과 가장 먼저 만나는 엔티티의 인덱스를 반환합니다.
+	 * @return 엔티티의 인덱스, 광선과 만나는 엔티티가 없을 경우 -1
+	 */
+	public int nearestOnRay(double expansion, double startX, double startY, double startZ, double dirX, double dirY, double dirZ, double maxDistance) {
+		int nearest = -1;
+		double nearestDistance = Double.MAX_VALUE;
+		for (int i = 0; i < entities.size(); i++) {
+			final double distance = rayTrace(i, expansion, startX, startY, startZ, dirX, dirY, dirZ, maxDistance);
+			if (distance < nearestDistance) {
+				nearest = i;
+				nearestDistance = distance;
+			}
+		}
+		return nearest;
+	}
+
+}
@@ -0,0 +1,55 @@
+package daybreak.abilitywar.utils.base.minecraft.nms;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 채팅 컴포넌트 JSON을 만들 때 사용하는 유틸리티입니다.
+ */
+public final class ChatComponents {
+
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	private ChatComponents() {}
+
+	/**
+	 * 주어진 문자열 하나만 담은 텍스트 컴포넌트 JSON을 반환합니다.
+	 */
+	public static @NotNull String text(@NotNull String text) {
+		final StringBuilder builder = new StringBuilder(text.length() + 12).append("{\"text\":\"");
+		escape(builder, text);
+		return builder.append("\"}").toString();
+	}
+
+	/**
+	 * JSON 문자열 안에 넣을 수 있도록 문자열을 이스케이프하여 builder에 덧붙입니다.
+	 */
+	public static void escape(@NotNull StringBuilder builder, @NotNull String text) {
+		for (int i = 0; i < text.length(); i++) {
+			final char c = text.charAt(i);
+			switch (c) {
+				case '"':
+					builder.append("\\\"");
+					break;
+				case '\\':
+					builder.append("\\\\");
+					break;
+				case '\n':
+					builder.append("\\n");
+					break;
+				case '\r':
+					builder.append("\\r");
+					break;
+				case '\t':
+					builder.append("\\t");
+					break;
+				default:
+					if (c < 0x20) {
+						builder.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+					} else {
+						builder.append(c);
+					}
+			}
+		}
+	}
+
+}
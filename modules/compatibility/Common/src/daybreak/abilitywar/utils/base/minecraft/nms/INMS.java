@@ -10,6 +10,8 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.SkullMeta;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
+
 public interface INMS {
 
 	void respawn(Player player);
@@ -18,6 +20,33 @@ public interface INMS {
 	void sendTitle(Player player, String title, String subtitle, int fadeIn, int stay, int fadeOut);
 	void sendActionbar(Player player, String string, int fadeIn, int stay, int fadeOut);
 
+	/**
+	 * 여러 플레이어에게 같은 타이틀을 전송합니다. 구현체는 패킷을 한 번만 만들어 모든 플레이어에게 전송합니다.
+	 */
+	default void broadcastTitle(Collection<? extends Player> receivers, String title, String subtitle, int fadeIn, int stay, int fadeOut) {
+		for (Player receiver : receivers) {
+			sendTitle(receiver, title, subtitle, fadeIn, stay, fadeOut);
+		}
+	}
+
+	default void broadcastClearTitle(Collection<? extends Player> receivers) {
+		for (Player receiver : receivers) {
+			clearTitle(receiver);
+		}
+	}
+
+	default void broadcastActionbar(Collection<? extends Player> receivers, String string, int fadeIn, int stay, int fadeOut) {
+		for (Player receiver : receivers) {
+			sendActionbar(receiver, string, fadeIn, stay, fadeOut);
+		}
+	}
+
+	/**
+	 * 여러 플레이어에게 채팅 컴포넌트 JSON을 메시지로 전송합니다.
+	 * @param json 채팅 컴포넌트 JSON, {@link ChatComponents#text(String)} 등으로 만들 수 있습니다.
+	 */
+	void broadcastMessage(Collection<? extends Player> receivers, String json);
+
 	float getAttackCooldown(Player player);
 
 	void rotateHead(Player receiver, Entity entity, float yaw, float pitch);
@@ -40,6 +40,26 @@ class NMS private constructor() {
 			INSTANCE.sendActionbar(player, string, fadeIn, stay, fadeOut)
 		}
 
+		@JvmStatic
+		override fun broadcastTitle(receivers: Collection<Player>, title: String?, subtitle: String?, fadeIn: Int, stay: Int, fadeOut: Int) {
+			INSTANCE.broadcastTitle(receivers, title, subtitle, fadeIn, stay, fadeOut)
+		}
+
+		@JvmStatic
+		override fun broadcastClearTitle(receivers: Collection<Player>) {
+			INSTANCE.broadcastClearTitle(receivers)
+		}
+
+		@JvmStatic
+		override fun broadcastActionbar(receivers: Collection<Player>, string: String, fadeIn: Int, stay: Int, fadeOut: Int) {
+			INSTANCE.broadcastActionbar(receivers, string, fadeIn, stay, fadeOut)
+		}
+
+		@JvmStatic
+		override fun broadcastMessage(receivers: Collection<Player>, json: String) {
+			INSTANCE.broadcastMessage(receivers, json)
+		}
+
 		@JvmStatic
 		override fun getAttackCooldown(player: Player): Float {
 			return INSTANCE.getAttackCooldown(player)
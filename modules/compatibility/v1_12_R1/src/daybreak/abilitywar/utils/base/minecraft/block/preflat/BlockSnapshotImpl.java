@@ -21,8 +21,13 @@ public class BlockSnapshotImpl implements IBlockSnapshot {
 
 	@Override
 	public void apply() {
-		block.setType(type);
-		block.setData(data);
+		apply(true);
+	}
+
+	@Override
+	public void apply(boolean applyPhysics) {
+		block.setType(type, applyPhysics);
+		block.setData(data, applyPhysics);
 		state.update(true, false);
 	}
 
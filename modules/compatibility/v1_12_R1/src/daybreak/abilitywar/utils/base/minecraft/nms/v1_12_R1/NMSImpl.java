@@ -30,6 +30,7 @@ import org.bukkit.inventory.meta.SkullMeta;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.Field;
+import java.util.Collection;
 import java.util.Base64;
 import java.util.UUID;
 
@@ -60,7 +61,53 @@ public class NMSImpl implements INMS {
 		final PlayerConnection connection = ((CraftPlayer) player).getHandle().playerConnection;
 		if (connection == null) return;
 		connection.sendPacket(new PacketPlayOutTitle(fadeIn, stay, fadeOut));
-		connection.sendPacket(new PacketPlayOutTitle(EnumTitleAction.ACTIONBAR, ChatSerializer.a("{\"text\":\"" + string + "\"}"), fadeIn, stay, fadeOut));
+		connection.sendPacket(new PacketPlayOutTitle(EnumTitleAction.ACTIONBAR, ChatSerializer.a(ChatComponents.text(string)), fadeIn, stay, fadeOut));
+	}
+
+	@Override
+	public void broadcastTitle(Collection<? extends Player> receivers, String title, String subtitle, int fadeIn, int stay, int fadeOut) {
+		final Packet<?> timesPacket = new PacketPlayOutTitle(fadeIn, stay, fadeOut);
+		final Packet<?> subtitlePacket = subtitle != null ? new PacketPlayOutTitle(EnumTitleAction.SUBTITLE, ChatSerializer.a(ChatComponents.text(subtitle))) : null;
+		final Packet<?> titlePacket = title != null ? new PacketPlayOutTitle(EnumTitleAction.TITLE, ChatSerializer.a(ChatComponents.text(title))) : null;
+		for (Player receiver : receivers) {
+			final PlayerConnection connection = ((CraftPlayer) receiver).getHandle().playerConnection;
+			if (connection == null) continue;
+			connection.sendPacket(timesPacket);
+			if (subtitlePacket != null) connection.sendPacket(subtitlePacket);
+			if (titlePacket != null) connection.sendPacket(titlePacket);
+		}
+	}
+
+	@Override
+	public void broadcastClearTitle(Collection<? extends Player> receivers) {
+		final Packet<?> clearPacket = new PacketPlayOutTitle(EnumTitleAction.CLEAR, null);
+		for (Player receiver : receivers) {
+			final PlayerConnection connection = ((CraftPlayer) receiver).getHandle().playerConnection;
+			if (connection == null) continue;
+			connection.sendPacket(clearPacket);
+		}
+	}
+
+	@Override
+	public void broadcastActionbar(Collection<? extends Player> receivers, String string, int fadeIn, int stay, int fadeOut) {
+		final Packet<?> timesPacket = new PacketPlayOutTitle(fadeIn, stay, fadeOut);
+		final Packet<?> actionbarPacket = new PacketPlayOutTitle(EnumTitleAction.ACTIONBAR, ChatSerializer.a(ChatComponents.text(string)), fadeIn, stay, fadeOut);
+		for (Player receiver : receivers) {
+			final PlayerConnection connection = ((CraftPlayer) receiver).getHandle().playerConnection;
+			if (connection == null) continue;
+			connection.sendPacket(timesPacket);
+			connection.sendPacket(actionbarPacket);
+		}
+	}
+
+	@Override
+	public void broadcastMessage(Collection<? extends Player> receivers, String json) {
+		final Packet<?> chatPacket = new PacketPlayOutChat(ChatSerializer.a(json), ChatMessageType.SYSTEM);
+		for (Player receiver : receivers) {
+			final PlayerConnection connection = ((CraftPlayer) receiver).getHandle().playerConnection;
+			if (connection == null) continue;
+			connection.sendPacket(chatPacket);
+		}
 	}
 
 	@Override
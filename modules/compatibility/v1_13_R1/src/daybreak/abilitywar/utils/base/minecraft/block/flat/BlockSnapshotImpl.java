@@ -19,7 +19,12 @@ public class BlockSnapshotImpl implements IBlockSnapshot {
 
 	@Override
 	public void apply() {
-		block.setBlockData(data);
+		apply(true);
+	}
+
+	@Override
+	public void apply(boolean applyPhysics) {
+		block.setBlockData(data, applyPhysics);
 		state.update(true, false);
 	}
 
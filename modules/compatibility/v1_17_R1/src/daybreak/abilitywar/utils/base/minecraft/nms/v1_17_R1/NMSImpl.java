@@ -7,7 +7,9 @@ import daybreak.abilitywar.utils.base.minecraft.boundary.EntityBoundingBox;
 import daybreak.abilitywar.utils.base.minecraft.nms.*;
 import daybreak.abilitywar.utils.base.reflect.ReflectionUtil;
 import daybreak.abilitywar.utils.library.MaterialX;
+import net.minecraft.network.chat.ChatMessageType;
 import net.minecraft.network.chat.IChatBaseComponent.ChatSerializer;
+import net.minecraft.network.protocol.Packet;
 import net.minecraft.network.protocol.game.*;
 import net.minecraft.network.protocol.game.PacketPlayInClientCommand.EnumClientCommand;
 import net.minecraft.network.protocol.game.PacketPlayOutEntity.PacketPlayOutEntityLook;
@@ -35,6 +37,7 @@ import org.bukkit.inventory.meta.SkullMeta;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.Field;
+import java.util.Collection;
 import java.util.Base64;
 import java.util.UUID;
 
@@ -65,7 +68,53 @@ public class NMSImpl implements INMS {
 		final PlayerConnection connection = ((CraftPlayer) player).getHandle().b;
 		if (connection == null) return;
 		connection.sendPacket(new ClientboundSetTitlesAnimationPacket(fadeIn, stay, fadeOut));
-		connection.sendPacket(new ClientboundSetActionBarTextPacket(ChatSerializer.a("{\"text\":\"" + string + "\"}")));
+		connection.sendPacket(new ClientboundSetActionBarTextPacket(ChatSerializer.a(ChatComponents.text(string))));
+	}
+
+	@Override
+	public void broadcastTitle(Collection<? extends Player> receivers, String title, String subtitle, int fadeIn, int stay, int fadeOut) {
+		final Packet<?> timesPacket = new ClientboundSetTitlesAnimationPacket(fadeIn, stay, fadeOut);
+		final Packet<?> subtitlePacket = subtitle != null ? new ClientboundSetSubtitleTextPacket(ChatSerializer.a(ChatComponents.text(subtitle))) : null;
+		final Packet<?> titlePacket = title != null ? new ClientboundSetTitleTextPacket(ChatSerializer.a(ChatComponents.text(title))) : null;
+		for (Player receiver : receivers) {
+			final PlayerConnection connection = ((CraftPlayer) receiver).getHandle().b;
+			if (connection == null) continue;
+			connection.sendPacket(timesPacket);
+			if (subtitlePacket != null) connection.sendPacket(subtitlePacket);
+			if (titlePacket != null) connection.sendPacket(titlePacket);
+		}
+	}
+
+	@Override
+	public void broadcastClearTitle(Collection<? extends Player> receivers) {
+		final Packet<?> clearPacket = new ClientboundClearTitlesPacket(false);
+		for (Player receiver : receivers) {
+			final PlayerConnection connection = ((CraftPlayer) receiver).getHandle().b;
+			if (connection == null) continue;
+			connection.sendPacket(clearPacket);
+		}
+	}
+
+	@Override
+	public void broadcastActionbar(Collection<? extends Player> receivers, String string, int fadeIn, int stay, int fadeOut) {
+		final Packet<?> timesPacket = new ClientboundSetTitlesAnimationPacket(fadeIn, stay, fadeOut);
+		final Packet<?> actionbarPacket = new ClientboundSetActionBarTextPacket(ChatSerializer.a(ChatComponents.text(string)));
+		for (Player receiver : receivers) {
+			final PlayerConnection connection = ((CraftPlayer) receiver).getHandle().b;
+			if (connection == null) continue;
+			connection.sendPacket(timesPacket);
+			connection.sendPacket(actionbarPacket);
+		}
+	}
+
+	@Override
+	public void broadcastMessage(Collection<? extends Player> receivers, String json) {
+		final Packet<?> chatPacket = new PacketPlayOutChat(ChatSerializer.a(json), ChatMessageType.b, new UUID(0, 0));
+		for (Player receiver : receivers) {
+			final PlayerConnection connection = ((CraftPlayer) receiver).getHandle().b;
+			if (connection == null) continue;
+			connection.sendPacket(chatPacket);
+		}
 	}
 
 	@Override
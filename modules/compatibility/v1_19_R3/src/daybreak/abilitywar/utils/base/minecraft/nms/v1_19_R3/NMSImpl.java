@@ -2,6 +2,7 @@ package daybreak.abilitywar.utils.base.minecraft.nms.v1_19_R3;
 
 import daybreak.abilitywar.utils.base.minecraft.SkinInfo;
 import daybreak.abilitywar.utils.base.minecraft.boundary.EntityBoundingBox;
+import daybreak.abilitywar.utils.base.minecraft.nms.ChatComponents;
 import daybreak.abilitywar.utils.base.minecraft.nms.Hand;
 import daybreak.abilitywar.utils.base.minecraft.nms.IDummy;
 import daybreak.abilitywar.utils.base.minecraft.nms.IHologram;
@@ -10,10 +11,14 @@ import daybreak.abilitywar.utils.base.minecraft.nms.IWorldBorder;
 import daybreak.abilitywar.utils.base.minecraft.nms.PickupStatus;
 import daybreak.abilitywar.utils.base.minecraft.nms.SteeringDirection;
 import net.minecraft.network.chat.IChatBaseComponent.ChatSerializer;
+import net.minecraft.network.protocol.Packet;
 import net.minecraft.network.protocol.game.ClientboundClearTitlesPacket;
 import net.minecraft.network.protocol.game.ClientboundInitializeBorderPacket;
 import net.minecraft.network.protocol.game.ClientboundSetActionBarTextPacket;
+import net.minecraft.network.protocol.game.ClientboundSetSubtitleTextPacket;
+import net.minecraft.network.protocol.game.ClientboundSetTitleTextPacket;
 import net.minecraft.network.protocol.game.ClientboundSetTitlesAnimationPacket;
+import net.minecraft.network.protocol.game.ClientboundSystemChatPacket;
 import net.minecraft.network.protocol.game.PacketPlayInClientCommand;
 import net.minecraft.network.protocol.game.PacketPlayInClientCommand.EnumClientCommand;
 import net.minecraft.network.protocol.game.PacketPlayOutCamera;
@@ -54,6 +59,7 @@ import org.bukkit.entity.Player;
 import org.bukkit.entity.Projectile;
 
 import java.lang.reflect.Field;
+import java.util.Collection;
 
 public class NMSImpl implements INMS {
 
@@ -79,7 +85,53 @@ public class NMSImpl implements INMS {
 		final PlayerConnection connection = ((CraftPlayer) player).getHandle().connection;
 		if (connection == null) return;
 		connection.send(new ClientboundSetTitlesAnimationPacket(fadeIn, stay, fadeOut));
-		connection.send(new ClientboundSetActionBarTextPacket(ChatSerializer.fromJson("{\"text\":\"" + string + "\"}")));
+		connection.send(new ClientboundSetActionBarTextPacket(ChatSerializer.fromJson(ChatComponents.text(string))));
+	}
+
+	@Override
+	public void broadcastTitle(Collection<? extends Player> receivers, String title, String subtitle, int fadeIn, int stay, int fadeOut) {
+		final Packet<?> timesPacket = new ClientboundSetTitlesAnimationPacket(fadeIn, stay, fadeOut);
+		final Packet<?> subtitlePacket = subtitle != null ? new ClientboundSetSubtitleTextPacket(ChatSerializer.fromJson(ChatComponents.text(subtitle))) : null;
+		final Packet<?> titlePacket = title != null ? new ClientboundSetTitleTextPacket(ChatSerializer.fromJson(ChatComponents.text(title))) : null;
+		for (Player receiver : receivers) {
+			final PlayerConnection connection = ((CraftPlayer) receiver).getHandle().connection;
+			if (connection == null) continue;
+			connection.send(timesPacket);
+			if (subtitlePacket != null) connection.send(subtitlePacket);
+			if (titlePacket != null) connection.send(titlePacket);
+		}
+	}
+
+	@Override
+	public void broadcastClearTitle(Collection<? extends Player> receivers) {
+		final Packet<?> clearPacket = new ClientboundClearTitlesPacket(false);
+		for (Player receiver : receivers) {
+			final PlayerConnection connection = ((CraftPlayer) receiver).getHandle().connection;
+			if (connection == null) continue;
+			connection.send(clearPacket);
+		}
+	}
+
+	@Override
+	public void broadcastActionbar(Collection<? extends Player> receivers, String string, int fadeIn, int stay, int fadeOut) {
+		final Packet<?> timesPacket = new ClientboundSetTitlesAnimationPacket(fadeIn, stay, fadeOut);
+		final Packet<?> actionbarPacket = new ClientboundSetActionBarTextPacket(ChatSerializer.fromJson(ChatComponents.text(string)));
+		for (Player receiver : receivers) {
+			final PlayerConnection connection = ((CraftPlayer) receiver).getHandle().connection;
+			if (connection == null) continue;
+			connection.send(timesPacket);
+			connection.send(actionbarPacket);
+		}
+	}
+
+	@Override
+	public void broadcastMessage(Collection<? extends Player> receivers, String json) {
+		final Packet<?> chatPacket = new ClientboundSystemChatPacket(ChatSerializer.fromJson(json), false);
+		for (Player receiver : receivers) {
+			final PlayerConnection connection = ((CraftPlayer) receiver).getHandle().connection;
+			if (connection == null) continue;
+			connection.send(chatPacket);
+		}
 	}
 
 	@Override
@@ -7,6 +7,7 @@ import daybreak.abilitywar.utils.base.minecraft.boundary.EntityBoundingBox;
 import daybreak.abilitywar.utils.base.minecraft.nms.*;
 import daybreak.abilitywar.utils.library.MaterialX;
 import net.minecraft.network.chat.IChatBaseComponent.ChatSerializer;
+import net.minecraft.network.protocol.Packet;
 import net.minecraft.network.protocol.game.*;
 import net.minecraft.network.protocol.game.PacketPlayInClientCommand.EnumClientCommand;
 import net.minecraft.network.protocol.game.PacketPlayOutEntity.PacketPlayOutEntityLook;
@@ -37,11 +38,11 @@ import org.bukkit.profile.PlayerProfile;
 import org.bukkit.profile.PlayerTextures;
 import org.jetbrains.annotations.NotNull;
 
-import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Collection;
 import java.util.UUID;
 
 import static daybreak.abilitywar.utils.base.minecraft.item.Skulls.LINK_HEAD;
@@ -71,7 +72,53 @@ public class NMSImpl implements INMS {
 		final PlayerConnection connection = ((CraftPlayer) player).getHandle().connection;
 		if (connection == null) return;
 		((ServerPlayerConnection) connection).send(new ClientboundSetTitlesAnimationPacket(fadeIn, stay, fadeOut));
-		((ServerPlayerConnection) connection).send(new ClientboundSetActionBarTextPacket(ChatSerializer.fromJson("{\"text\":\"" + string + "\"}")));
+		((ServerPlayerConnection) connection).send(new ClientboundSetActionBarTextPacket(ChatSerializer.fromJson(ChatComponents.text(string))));
+	}
+
+	@Override
+	public void broadcastTitle(Collection<? extends Player> receivers, String title, String subtitle, int fadeIn, int stay, int fadeOut) {
+		final Packet<?> timesPacket = new ClientboundSetTitlesAnimationPacket(fadeIn, stay, fadeOut);
+		final Packet<?> subtitlePacket = subtitle != null ? new ClientboundSetSubtitleTextPacket(ChatSerializer.fromJson(ChatComponents.text(subtitle))) : null;
+		final Packet<?> titlePacket = title != null ? new ClientboundSetTitleTextPacket(ChatSerializer.fromJson(ChatComponents.text(title))) : null;
+		for (Player receiver : receivers) {
+			final PlayerConnection connection = ((CraftPlayer) receiver).getHandle().connection;
+			if (connection == null) continue;
+			((ServerPlayerConnection) connection).send(timesPacket);
+			if (subtitlePacket != null) ((ServerPlayerConnection) connection).send(subtitlePacket);
+			if (titlePacket != null) ((ServerPlayerConnection) connection).send(titlePacket);
+		}
+	}
+
+	@Override
+	public void broadcastClearTitle(Collection<? extends Player> receivers) {
+		final Packet<?> clearPacket = new ClientboundClearTitlesPacket(false);
+		for (Player receiver : receivers) {
+			final PlayerConnection connection = ((CraftPlayer) receiver).getHandle().connection;
+			if (connection == null) continue;
+			((ServerPlayerConnection) connection).send(clearPacket);
+		}
+	}
+
+	@Override
+	public void broadcastActionbar(Collection<? extends Player> receivers, String string, int fadeIn, int stay, int fadeOut) {
+		final Packet<?> timesPacket = new ClientboundSetTitlesAnimationPacket(fadeIn, stay, fadeOut);
+		final Packet<?> actionbarPacket = new ClientboundSetActionBarTextPacket(ChatSerializer.fromJson(ChatComponents.text(string)));
+		for (Player receiver : receivers) {
+			final PlayerConnection connection = ((CraftPlayer) receiver).getHandle().connection;
+			if (connection == null) continue;
+			((ServerPlayerConnection) connection).send(timesPacket);
+			((ServerPlayerConnection) connection).send(actionbarPacket);
+		}
+	}
+
+	@Override
+	public void broadcastMessage(Collection<? extends Player> receivers, String json) {
+		final Packet<?> chatPacket = new ClientboundSystemChatPacket(ChatSerializer.fromJson(json), false);
+		for (Player receiver : receivers) {
+			final PlayerConnection connection = ((CraftPlayer) receiver).getHandle().connection;
+			if (connection == null) continue;
+			((ServerPlayerConnection) connection).send(chatPacket);
+		}
 	}
 
 	@Override
@@ -297,10 +344,12 @@ public class NMSImpl implements INMS {
 	public SkullMeta setOwningPlayer(SkullMeta skullMeta, String name) {
 		final PlayerProfile profile = Bukkit.getServer().createPlayerProfile(UUID.randomUUID(), name);
 		PROFILE_SET_PROPERTY.setAccessible(true);
-		try {
-			final SkinInfo skin = MojangAPI.getSkin(name);
-			PROFILE_SET_PROPERTY.invoke(profile, "textures", new Property("textures", skin.getValue(), skin.getSignature()));
-		} catch (IOException | ReflectiveOperationException ignored) {}
+		final SkinInfo skin = MojangAPI.getSkinNow(name);
+		if (skin != null) {
+			try {
+				PROFILE_SET_PROPERTY.invoke(profile, "textures", new Property("textures", skin.getValue(), skin.getSignature()));
+			} catch (ReflectiveOperationException ignored) {}
+		}
 		skullMeta.setOwnerProfile(profile);
 		return skullMeta;
 	}